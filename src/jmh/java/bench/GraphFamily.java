@@ -0,0 +1,96 @@
+package bench;
+
+// Synthetic workloads, sized by their approximate edge count; the graphs themselves come
+// from the solver's GraphGenerator, so benchmarks and generated inputs cannot drift apart
+public enum GraphFamily {
+    // Random tree plus uniform random edges, average degree 8
+    SPARSE("er", true) {
+        @Override
+        int vertices(int edges) {
+            return Math.max(2, edges / 4);
+        }
+
+        @Override
+        double param(int edges, int V) {
+            return Math.min(1, Math.max(0, edges - (V - 1)) / (V * (V - 1) / 2.0));
+        }
+    },
+    // 4-neighbour square lattice
+    GRID("grid", false) {
+        @Override
+        int vertices(int edges) {
+            int side = Math.max(2, (int) Math.round(Math.sqrt(edges / 2.0)));
+            return side * side;
+        }
+    },
+    // Every pair present with probability 1/2
+    DENSE("er", false) {
+        @Override
+        int vertices(int edges) {
+            return Math.max(2, (int) Math.round(Math.sqrt(4.0 * edges)));
+        }
+
+        @Override
+        double param(int edges, int V) {
+            return 0.5;
+        }
+    },
+    COMPLETE("complete", false) {
+        @Override
+        int vertices(int edges) {
+            return Math.max(2, (int) ((1 + Math.sqrt(1 + 8.0 * edges)) / 2));
+        }
+    },
+    // Barabási–Albert preferential attachment, 4 edges per new vertex
+    POWER_LAW("ba", false) {
+        @Override
+        int vertices(int edges) {
+            return Math.max(5, edges / 4);
+        }
+
+        @Override
+        double param(int edges, int V) {
+            return 4;
+        }
+    };
+
+    private final String model;
+    private final boolean connected;
+
+    GraphFamily(String model, boolean connected) {
+        this.model = model;
+        this.connected = connected;
+    }
+
+    abstract int vertices(int edges);
+
+    // The GraphGenerator model parameter; 0 picks its default
+    double param(int edges, int V) {
+        return 0;
+    }
+
+    Workload generate(int edges, long seed) {
+        int V = vertices(edges);
+        try {
+            return MSTClasses.generate(model, V, param(edges, V), seed, connected);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not generate " + this + " graph", e);
+        }
+    }
+
+    public static final class Workload {
+        public final int V;
+        public final int E;
+        public final int[] from;
+        public final int[] to;
+        public final double[] weight;
+
+        Workload(int V, int E) {
+            this.V = V;
+            this.E = E;
+            this.from = new int[E];
+            this.to = new int[E];
+            this.weight = new double[E];
+        }
+    }
+}
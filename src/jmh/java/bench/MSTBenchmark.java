@@ -0,0 +1,45 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Whole-engine cost: construction of the MST object from an already built Graph
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx12g"})
+public class MSTBenchmark {
+    @Param({"SPARSE", "GRID", "DENSE", "COMPLETE", "POWER_LAW"})
+    public GraphFamily family;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int edges;
+
+    @Param({"42"})
+    public long seed;
+
+    private Object graph;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        graph = MSTClasses.newGraph(family.generate(edges, seed));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graph = null;
+    }
+
+    @Benchmark
+    public Object prim() throws Throwable {
+        return (Object) MSTClasses.PRIM.invokeExact(graph);
+    }
+
+    @Benchmark
+    public Object kruskal() throws Throwable {
+        return (Object) MSTClasses.KRUSKAL.invokeExact(graph);
+    }
+}
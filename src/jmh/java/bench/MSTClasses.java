@@ -0,0 +1,108 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+
+// JMH rejects benchmarks in the unnamed package, and a named package cannot
+// import the solver classes, so they are reached through constant method handles
+final class MSTClasses {
+    static final MethodHandle NEW_GRAPH;        // (List) -> Graph
+    static final MethodHandle NEW_EDGE;         // (String, String, double) -> Edge
+    static final MethodHandle ADD_EDGE;         // (Graph, Edge) -> void
+    static final MethodHandle PRIM;             // (Graph) -> PrimMST
+    static final MethodHandle KRUSKAL;          // (Graph) -> KruskalMST
+    static final MethodHandle NEW_UNION_FIND;   // (int) -> UnionFind
+    static final MethodHandle CONNECTED;        // (UnionFind, int, int) -> boolean
+    static final MethodHandle UNION;            // (UnionFind, int, int) -> void
+    static final MethodHandle PARSE_MODEL;      // (String) -> GraphGenerator.Model
+    static final MethodHandle NEW_GENERATOR;    // (long, boolean) -> GraphGenerator
+    static final MethodHandle TO_EDGE_LIST;     // (GraphGenerator, Model, int, double) -> EdgeList
+    static final MethodHandle EDGE_COUNT;       // (EdgeList) -> int
+    static final MethodHandle EDGE_FROM;        // (EdgeList, int) -> int
+    static final MethodHandle EDGE_TO;          // (EdgeList, int) -> int
+    static final MethodHandle EDGE_WEIGHT;      // (EdgeList, int) -> double
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> graph = Class.forName("Graph");
+            Class<?> edge = Class.forName("Edge");
+            Class<?> unionFind = Class.forName("UnionFind");
+            Class<?> generator = Class.forName("GraphGenerator");
+            Class<?> model = Class.forName("GraphGenerator$Model");
+            Class<?> edgeList = Class.forName("EdgeList");
+
+            NEW_GRAPH = lookup.findConstructor(graph, MethodType.methodType(void.class, List.class))
+                    .asType(MethodType.methodType(Object.class, List.class));
+            NEW_EDGE = lookup.findConstructor(edge, MethodType.methodType(void.class, String.class, String.class, double.class))
+                    .asType(MethodType.methodType(Object.class, String.class, String.class, double.class));
+            ADD_EDGE = lookup.findVirtual(graph, "addEdge", MethodType.methodType(void.class, edge))
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            PRIM = engine(lookup, "PrimMST", graph);
+            KRUSKAL = engine(lookup, "KruskalMST", graph);
+            NEW_UNION_FIND = lookup.findConstructor(unionFind, MethodType.methodType(void.class, int.class))
+                    .asType(MethodType.methodType(Object.class, int.class));
+            CONNECTED = lookup.findVirtual(unionFind, "connected", MethodType.methodType(boolean.class, int.class, int.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class, int.class, int.class));
+            UNION = lookup.findVirtual(unionFind, "union", MethodType.methodType(void.class, int.class, int.class))
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, int.class));
+            PARSE_MODEL = lookup.findStatic(model, "parse", MethodType.methodType(model, String.class))
+                    .asType(MethodType.methodType(Object.class, String.class));
+            NEW_GENERATOR = lookup.findConstructor(generator, MethodType.methodType(void.class, long.class, boolean.class))
+                    .asType(MethodType.methodType(Object.class, long.class, boolean.class));
+            TO_EDGE_LIST = lookup.findVirtual(generator, "toEdgeList",
+                            MethodType.methodType(edgeList, model, int.class, double.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Object.class, int.class, double.class));
+            EDGE_COUNT = lookup.findVirtual(edgeList, "size", MethodType.methodType(int.class))
+                    .asType(MethodType.methodType(int.class, Object.class));
+            EDGE_FROM = lookup.findVirtual(edgeList, "from", MethodType.methodType(int.class, int.class))
+                    .asType(MethodType.methodType(int.class, Object.class, int.class));
+            EDGE_TO = lookup.findVirtual(edgeList, "to", MethodType.methodType(int.class, int.class))
+                    .asType(MethodType.methodType(int.class, Object.class, int.class));
+            EDGE_WEIGHT = lookup.findVirtual(edgeList, "weight", MethodType.methodType(double.class, int.class))
+                    .asType(MethodType.methodType(double.class, Object.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MSTClasses() {
+    }
+
+    private static MethodHandle engine(MethodHandles.Lookup lookup, String name, Class<?> graph)
+            throws ReflectiveOperationException {
+        return lookup.findConstructor(Class.forName(name), MethodType.methodType(void.class, graph))
+                .asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    // One GraphGenerator graph, copied out of its EdgeList
+    static GraphFamily.Workload generate(String modelName, int V, double param, long seed, boolean connected)
+            throws Throwable {
+        Object model = (Object) PARSE_MODEL.invokeExact(modelName);
+        Object generator = (Object) NEW_GENERATOR.invokeExact(seed, connected);
+        Object edges = (Object) TO_EDGE_LIST.invokeExact(generator, model, V, param);
+        GraphFamily.Workload w = new GraphFamily.Workload(V, (int) EDGE_COUNT.invokeExact(edges));
+        for (int i = 0; i < w.E; i++) {
+            w.from[i] = (int) EDGE_FROM.invokeExact(edges, i);
+            w.to[i] = (int) EDGE_TO.invokeExact(edges, i);
+            w.weight[i] = (double) EDGE_WEIGHT.invokeExact(edges, i);
+        }
+        return w;
+    }
+
+    static Object newGraph(GraphFamily.Workload w) throws Throwable {
+        List<String> nodes = new ArrayList<>(w.V);
+        for (int v = 0; v < w.V; v++) {
+            nodes.add("V" + v);
+        }
+        Object graph = (Object) NEW_GRAPH.invokeExact(nodes);
+        for (int i = 0; i < w.E; i++) {
+            Object edge = (Object) NEW_EDGE.invokeExact(nodes.get(w.from[i]), nodes.get(w.to[i]), w.weight[i]);
+            ADD_EDGE.invokeExact(graph, edge);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,60 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// UnionFind alone, driven by the edges of each family in weight order, as Kruskal would see them
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class UnionFindBenchmark {
+    @Param({"SPARSE", "GRID", "DENSE", "COMPLETE", "POWER_LAW"})
+    public GraphFamily family;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int edges;
+
+    @Param({"42"})
+    public long seed;
+
+    private int V;
+    private int[] from;
+    private int[] to;
+
+    // Sorted once per trial, so only the union-find work is measured
+    @Setup(Level.Trial)
+    public void setUp() {
+        GraphFamily.Workload w = family.generate(edges, seed);
+        int[] order = IntStream.range(0, w.E).boxed()
+                .sorted(Comparator.comparingDouble(i -> w.weight[i]))
+                .mapToInt(Integer::intValue).toArray();
+        V = w.V;
+        from = new int[w.E];
+        to = new int[w.E];
+        for (int i = 0; i < w.E; i++) {
+            from[i] = w.from[order[i]];
+            to[i] = w.to[order[i]];
+        }
+    }
+
+    @Benchmark
+    public Object connectedThenUnion(Blackhole bh) throws Throwable {
+        Object uf = (Object) MSTClasses.NEW_UNION_FIND.invokeExact(V);
+        int merges = 0;
+        for (int i = 0; i < from.length; i++) {
+            if (!(boolean) MSTClasses.CONNECTED.invokeExact(uf, from[i], to[i])) {
+                MSTClasses.UNION.invokeExact(uf, from[i], to[i]);
+                merges++;
+            }
+        }
+        bh.consume(merges);
+        return uf;
+    }
+}
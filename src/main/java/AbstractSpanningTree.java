@@ -0,0 +1,78 @@
+import java.util.*;
+
+// The tree an engine grows edge by edge, its cost, and whether it turned out to span the graph
+public abstract class AbstractSpanningTree implements MinimumSpanningTree {
+    protected static final double EPSILON = 1.0E-12;
+
+    protected List<Edge> mstEdges = new ArrayList<>();
+    protected double totalCost;
+    protected boolean isConnected = true;
+    // Kept by the engines that have seen every edge by the time they find the graph disconnected
+    protected MinimumSpanningForest forest;
+
+    // A disconnected graph has no spanning tree, so the partial tree is discarded
+    // Final, as the engines call it from their constructors
+    protected final void finish(boolean spanning) {
+        if (!spanning) {
+            isConnected = false;
+            mstEdges.clear();
+            totalCost = 0.0;
+        }
+    }
+
+    public List<Edge> edges() {
+        return new ArrayList<>(mstEdges);
+    }
+
+    public double weight() {
+        return totalCost;
+    }
+
+    public boolean isConnected() {
+        return isConnected;
+    }
+
+    @Override
+    public MinimumSpanningForest forest() {
+        return forest;
+    }
+
+    public boolean check(Graph G) {
+        double total = 0.0;
+        for (Edge e : edges()) {
+            total += e.weight();
+        }
+        if (Math.abs(total - weight()) > tolerance()) {
+            return false;
+        }
+
+        if (edges().size() != expectedEdges(G)) {
+            return false;
+        }
+
+        UnionFind uf = new UnionFind(G.V());
+        for (Edge e : edges()) {
+            String v = e.either();
+            String w = e.other(v);
+            int vIdx = G.getNodeIndex(v);
+            int wIdx = G.getNodeIndex(w);
+
+            if (uf.connected(vIdx, wIdx)) {
+                return false;
+            }
+            uf.union(vIdx, wIdx);
+        }
+
+        return true;
+    }
+
+    // How far the summed edge weights may drift from weight()
+    protected double tolerance() {
+        return EPSILON;
+    }
+
+    // A spanning tree has one edge fewer than vertices; a disconnected graph keeps none
+    protected int expectedEdges(Graph G) {
+        return isConnected ? Math.max(0, G.V() - 1) : 0;
+    }
+}
@@ -0,0 +1,210 @@
+import java.io.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+// Little-endian file layout, every section aligned to 8 bytes:
+//   header     int magic, int version, int graph id, int V, int E, int reserved
+//   names      int[V + 1] byte offsets into the UTF-8 name bytes, then the name bytes
+//   offsets    int[V + 1]
+//   targets    int[2E]
+//   weights    double[2E]
+public class BinaryGraphFile {
+    public static final String EXTENSION = ".mstg";
+    private static final int MAGIC = 0x4D535447; // "MSTG"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    public static class MappedGraph extends CSRGraph {
+        private final int id;
+        private final MemorySegment nameOffsets;
+        private final MemorySegment nameBytes;
+        private final MemorySegment offsets;
+        private final MemorySegment targets;
+        private final MemorySegment weights;
+
+        private MappedGraph(int id, int V, int E, MemorySegment nameOffsets, MemorySegment nameBytes,
+                            MemorySegment offsets, MemorySegment targets, MemorySegment weights) {
+            super(V, E);
+            this.id = id;
+            this.nameOffsets = nameOffsets;
+            this.nameBytes = nameBytes;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        public int id() {
+            return id;
+        }
+
+        @Override
+        public int offset(int v) {
+            return offsets.getAtIndex(INT, v);
+        }
+
+        @Override
+        public int target(int i) {
+            return targets.getAtIndex(INT, i);
+        }
+
+        @Override
+        public double weight(int i) {
+            return weights.getAtIndex(DOUBLE, i);
+        }
+
+        // Names are decoded on demand, only result edges need them
+        @Override
+        public String getNodeName(int index) {
+            validate(index);
+            int start = nameOffsets.getAtIndex(INT, index);
+            int end = nameOffsets.getAtIndex(INT, index + 1);
+            byte[] bytes = new byte[end - start];
+            MemorySegment.copy(nameBytes, ValueLayout.JAVA_BYTE, start, bytes, 0, bytes.length);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    public static void write(CSRGraph G, int graphId, Path path) throws IOException {
+        int V = G.V();
+        byte[][] names = new byte[V][];
+        long nameLength = 0;
+        for (int v = 0; v < V; v++) {
+            names[v] = G.getNodeName(v).getBytes(StandardCharsets.UTF_8);
+            nameLength += names[v].length;
+        }
+        if (nameLength > Integer.MAX_VALUE) throw new IOException("Vertex names exceed 2 GB");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer out = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(MAGIC).putInt(VERSION).putInt(graphId).putInt(V).putInt(G.E()).putInt(0);
+
+            int position = 0;
+            for (int v = 0; v <= V; v++) {
+                out = ensure(channel, out, 4);
+                out.putInt(position);
+                if (v < V) position += names[v].length;
+            }
+            for (byte[] name : names) {
+                out = ensure(channel, out, name.length);
+                out.put(name);
+            }
+            out = pad(channel, out, 4L * (V + 1) + nameLength);
+
+            for (int v = 0; v <= V; v++) {
+                out = ensure(channel, out, 4);
+                out.putInt(G.offset(v));
+            }
+            for (int i = 0; i < 2 * G.E(); i++) {
+                out = ensure(channel, out, 4);
+                out.putInt(G.target(i));
+            }
+            out = pad(channel, out, 4L * (V + 1) + 8L * G.E());
+            for (int i = 0; i < 2 * G.E(); i++) {
+                out = ensure(channel, out, 8);
+                out.putDouble(G.weight(i));
+            }
+
+            out.flip();
+            while (out.hasRemaining()) channel.write(out);
+        }
+    }
+
+    private static ByteBuffer ensure(FileChannel channel, ByteBuffer out, int bytes) throws IOException {
+        if (out.remaining() >= bytes) return out;
+        out.flip();
+        while (out.hasRemaining()) channel.write(out);
+        out.clear();
+        if (out.capacity() < bytes) {
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return out;
+    }
+
+    private static ByteBuffer pad(FileChannel channel, ByteBuffer out, long sectionBytes) throws IOException {
+        int padding = (int) (align(sectionBytes) - sectionBytes);
+        out = ensure(channel, out, padding);
+        for (int i = 0; i < padding; i++) out.put((byte) 0);
+        return out;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    // Maps the whole file read-only and slices the sections out of it, so no section is capped
+    // at 2 GB; the mapping belongs to an automatic arena and lives as long as the graph does
+    public static MappedGraph open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) throw new IOException(path + " is not a binary graph file");
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, Arena.ofAuto());
+            if (file.get(INT, 0) != MAGIC) throw new IOException(path + " is not a binary graph file");
+            if (file.get(INT, 4) != VERSION) throw new IOException("Unsupported binary graph version " + file.get(INT, 4));
+            int id = file.get(INT, 8);
+            int V = file.get(INT, 12);
+            int E = file.get(INT, 16);
+
+            long position = HEADER_BYTES;
+            MemorySegment nameOffsets = section(file, position, 4L * (V + 1));
+            position += 4L * (V + 1);
+            int nameLength = nameOffsets.getAtIndex(INT, V);
+            MemorySegment nameBytes = section(file, position, nameLength);
+            position = align(position + nameLength);
+
+            MemorySegment offsets = section(file, position, 4L * (V + 1));
+            position += 4L * (V + 1);
+            MemorySegment targets = section(file, position, 8L * E);
+            position = align(position + 8L * E);
+            MemorySegment weights = section(file, position, 16L * E);
+
+            return new MappedGraph(id, V, E, nameOffsets, nameBytes, offsets, targets, weights);
+        }
+    }
+
+    private static MemorySegment section(MemorySegment file, long position, long size) throws IOException {
+        if (size < 0 || position + size > file.byteSize()) throw new IOException("Binary graph file is truncated");
+        return file.asSlice(position, size);
+    }
+
+    // Writes every graph of a JSON input file as <outputDir>/graph-<id>.mstg. The format holds
+    // edges only, so a point set, whose edges are implied by its coordinates, is rejected
+    public static void convert(InputStream json, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        try (JsonGraphReader reader = new JsonGraphReader(json)) {
+            MSTSolver.GraphData graphData;
+            while ((graphData = reader.nextGraph()) != null) {
+                if (graphData.points != null) {
+                    throw new IOException("Graph " + graphData.id + " is a point set, which a binary graph file cannot hold");
+                }
+                Graph graph = new Graph(graphData.nodes);
+                for (MSTSolver.EdgeData edgeData : graphData.edges) {
+                    graph.addEdge(new Edge(edgeData.from, edgeData.to, edgeData.weight));
+                }
+                Path path = outputDir.resolve("graph-" + graphData.id + EXTENSION);
+                write(new CSRGraph(graph), graphData.id, path);
+                System.out.println("Wrote " + path);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BinaryGraphFile <input.json> <output-dir>");
+            return;
+        }
+        try (InputStream in = new FileInputStream(args[0])) {
+            convert(in, Paths.get(args[1]));
+        } catch (IOException e) {
+            System.err.println("⚠️ Error converting " + args[0] + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+public final class BoruvkaMST extends AbstractSpanningTree {
+    // Edge ranges below this size are scanned by a single task
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private long operationsCount;
+    private long unionFindNanos;
+    private double executionTimeMs;
+
+    public BoruvkaMST(Graph G) {
+        this(new CSRGraph(G));
+    }
+
+    public BoruvkaMST(CSRGraph G) {
+        this(G, ForkJoinPool.commonPool());
+    }
+
+    public BoruvkaMST(CSRGraph G, ForkJoinPool pool) {
+        long startTime = System.nanoTime();
+        this.mstEdges = new ArrayList<>();
+        this.totalCost = 0.0;
+        this.operationsCount = 0;
+        this.isConnected = true;
+
+        if (G.V() == 0) {
+            long endTime = System.nanoTime();
+            this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return;
+        }
+
+        EdgeList edges = new EdgeList(G);
+        int m = edges.size();
+
+        LongAdder ops = new LongAdder();
+        ops.add(m);
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(G.V());
+        int[] comp = new int[G.V()];
+        AtomicIntegerArray best = new AtomicIntegerArray(G.V());
+        int[] alive = IntStream.range(0, m).toArray();
+        int[] treeFrom = new int[G.V() - 1];
+
+        long unionFindStart = System.nanoTime();
+        while (uf.count() > 1 && alive.length > 0) {
+            // Snapshot component roots so the edge scan only reads
+            pool.submit(() -> IntStream.range(0, comp.length).parallel().forEach(v -> {
+                comp[v] = uf.find(v);
+                best.set(v, -1);
+            })).join();
+            ops.add(G.V());
+
+            pool.invoke(new LightestEdgeTask(alive, 0, alive.length, edges, comp, best, ops));
+
+            // Contract along every component's lightest outgoing edge; when two
+            // components pick the same edge only one unite() succeeds
+            int[] added = pool.submit(() -> IntStream.range(0, comp.length).parallel()
+                    .filter(c -> comp[c] == c && best.get(c) != -1)
+                    .map(best::get)
+                    .filter(e -> uf.unite(edges.from(e), edges.to(e)))
+                    .toArray()).join();
+            for (int e : added) {
+                treeFrom[mstEdges.size()] = edges.from(e);
+                mstEdges.add(new Edge(G.getNodeName(edges.from(e)), G.getNodeName(edges.to(e)), edges.weight(e)));
+                totalCost += edges.weight(e);
+            }
+            ops.add(2L * added.length);
+
+            // Drop edges that became internal to a component
+            int[] current = alive;
+            alive = pool.submit(() -> Arrays.stream(current).parallel()
+                    .filter(e -> uf.find(edges.from(e)) != uf.find(edges.to(e)))
+                    .toArray()).join();
+            ops.add(current.length);
+        }
+
+        this.unionFindNanos = System.nanoTime() - unionFindStart;
+
+        // Edges run out before the components do only when the graph is disconnected,
+        // and then the contracted edges form its minimum spanning forest
+        if (uf.count() > 1) {
+            this.forest = new MinimumSpanningForest(G.V(), mstEdges, treeFrom, uf, ops.sum(), 0, unionFindNanos,
+                    (System.nanoTime() - startTime) / 1_000_000.0);
+        }
+        finish(uf.count() == 1);
+
+        this.operationsCount = ops.sum();
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+    }
+
+    private static class LightestEdgeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] alive;
+        private final int lo;
+        private final int hi;
+        // Tasks are never serialized; ForkJoinTask merely happens to be Serializable
+        private final transient EdgeList edges;
+        private final int[] comp;
+        private final AtomicIntegerArray best;
+        private final LongAdder ops;
+
+        LightestEdgeTask(int[] alive, int lo, int hi, EdgeList edges,
+                         int[] comp, AtomicIntegerArray best, LongAdder ops) {
+            this.alive = alive;
+            this.lo = lo;
+            this.hi = hi;
+            this.edges = edges;
+            this.comp = comp;
+            this.best = best;
+            this.ops = ops;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > SEQUENTIAL_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new LightestEdgeTask(alive, lo, mid, edges, comp, best, ops),
+                        new LightestEdgeTask(alive, mid, hi, edges, comp, best, ops));
+                return;
+            }
+            for (int k = lo; k < hi; k++) {
+                int e = alive[k];
+                int cv = comp[edges.from(e)];
+                int cw = comp[edges.to(e)];
+                if (cv == cw) continue;
+                offer(cv, e);
+                offer(cw, e);
+            }
+            ops.add(2L * (hi - lo));
+        }
+
+        private void offer(int c, int e) {
+            int current;
+            do {
+                current = best.get(c);
+                if (current != -1 && !lighter(e, current)) return;
+            } while (!best.compareAndSet(c, current, e));
+        }
+
+        // Ties are broken by edge index so all components agree and no cycle is formed
+        private boolean lighter(int e, int f) {
+            int cmp = Double.compare(edges.weight(e), edges.weight(f));
+            return cmp < 0 || (cmp == 0 && e < f);
+        }
+    }
+
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    public long phaseTime(SolverMetrics.Phase phase) {
+        return phase == SolverMetrics.Phase.UNION_FIND ? unionFindNanos : 0;
+    }
+
+    public double executionTime() {
+        return executionTimeMs;
+    }
+}
@@ -0,0 +1,230 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+public class CSRGraph {
+    // Edge count from which the adjacency arrays are filled on the common pool
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final String[] names;
+    private final int V;
+    private final int E;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private Map<String, Integer> nodeToIndex;
+    // Cached BFS result; the graph is immutable, so it never goes stale
+    private Boolean connected;
+
+    // For subclasses that keep the arrays elsewhere and override the accessors
+    protected CSRGraph(int V, int E) {
+        if (V < 0 || E < 0) throw new IllegalArgumentException();
+        this.V = V;
+        this.E = E;
+        this.names = null;
+        this.offsets = null;
+        this.targets = null;
+        this.weights = null;
+    }
+
+    public CSRGraph(Graph G) {
+        this.V = G.V();
+        this.names = new String[V];
+        for (int i = 0; i < V; i++) {
+            names[i] = G.getNodeName(i);
+        }
+
+        // Graph.forEachEdge visits every edge once and leaves out self-loops
+        int[] from = new int[G.E()];
+        int[] to = new int[G.E()];
+        double[] weight = new double[G.E()];
+        int[] count = new int[1];
+        G.forEachEdge((v, w, edgeWeight) -> {
+            from[count[0]] = v;
+            to[count[0]] = w;
+            weight[count[0]] = edgeWeight;
+            count[0]++;
+        });
+
+        this.E = count[0];
+        this.offsets = new int[V + 1];
+        this.targets = new int[2 * E];
+        this.weights = new double[2 * E];
+        fill(from, to, weight);
+    }
+
+    public CSRGraph(String[] names, int[] from, int[] to, double[] weight) {
+        if (from.length != to.length || from.length != weight.length) {
+            throw new IllegalArgumentException("Edge arrays must have the same length");
+        }
+        this.V = names.length;
+        this.E = from.length;
+        this.names = names.clone();
+        this.offsets = new int[V + 1];
+        this.targets = new int[2 * E];
+        this.weights = new double[2 * E];
+
+        for (int i = 0; i < E; i++) {
+            validate(from[i], V);
+            validate(to[i], V);
+            if (Double.isNaN(weight[i])) {
+                throw new IllegalArgumentException("Weight is NaN");
+            }
+        }
+        fill(from, to, weight);
+    }
+
+    // Counting sort of both edge directions into the adjacency arrays
+    private void fill(int[] from, int[] to, double[] weight) {
+        if (E >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            parallelFill(from, to, weight);
+            return;
+        }
+        for (int i = 0; i < E; i++) {
+            offsets[from[i] + 1]++;
+            offsets[to[i] + 1]++;
+        }
+        for (int v = 0; v < V; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] next = Arrays.copyOf(offsets, V);
+        for (int i = 0; i < E; i++) {
+            int v = from[i];
+            int w = to[i];
+            targets[next[v]] = w;
+            weights[next[v]++] = weight[i];
+            targets[next[w]] = v;
+            weights[next[w]++] = weight[i];
+        }
+    }
+
+    // Same layout as fill: degrees are counted with atomic increments and summed with a
+    // parallel prefix, slots are claimed atomically, then each vertex's slots are put
+    // back in edge order so the adjacency does not depend on thread scheduling
+    private void parallelFill(int[] from, int[] to, double[] weight) {
+        AtomicIntegerArray degree = new AtomicIntegerArray(V + 1);
+        IntStream.range(0, E).parallel().forEach(i -> {
+            degree.incrementAndGet(from[i] + 1);
+            degree.incrementAndGet(to[i] + 1);
+        });
+        IntStream.range(0, V + 1).parallel().forEach(v -> offsets[v] = degree.get(v));
+        Arrays.parallelPrefix(offsets, Integer::sum);
+
+        AtomicIntegerArray next = new AtomicIntegerArray(Arrays.copyOf(offsets, V));
+        int[] edgeOf = new int[2 * E];
+        IntStream.range(0, E).parallel().forEach(i -> {
+            edgeOf[next.getAndIncrement(from[i])] = i;
+            edgeOf[next.getAndIncrement(to[i])] = i;
+        });
+        IntStream.range(0, V).parallel().forEach(v -> {
+            Arrays.sort(edgeOf, offsets[v], offsets[v + 1]);
+            for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+                int i = edgeOf[k];
+                targets[k] = from[i] == v ? to[i] : from[i];
+                weights[k] = weight[i];
+            }
+        });
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public int E() {
+        return E;
+    }
+
+    // Adjacency entries of v occupy the range [offset(v), offset(v + 1))
+    public int offset(int v) {
+        return offsets[v];
+    }
+
+    public int degree(int v) {
+        validate(v);
+        return offset(v + 1) - offset(v);
+    }
+
+    public int target(int i) {
+        return targets[i];
+    }
+
+    public double weight(int i) {
+        return weights[i];
+    }
+
+    public String getNodeName(int index) {
+        validate(index);
+        return names[index];
+    }
+
+    public int getNodeIndex(String name) {
+        if (nodeToIndex == null) {
+            Map<String, Integer> map = new HashMap<>();
+            for (int i = 0; i < V; i++) {
+                map.put(getNodeName(i), i);
+            }
+            nodeToIndex = map;
+        }
+        Integer index = nodeToIndex.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Vertex not in graph");
+        }
+        return index;
+    }
+
+    public boolean isConnected() {
+        if (connected == null) connected = computeConnected();
+        return connected;
+    }
+
+    private boolean computeConnected() {
+        if (V == 0) return true;
+
+        boolean[] visited = new boolean[V];
+        int[] queue = new int[V];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = 0;
+        visited[0] = true;
+
+        while (head < tail) {
+            int v = queue[head++];
+            for (int i = offset(v); i < offset(v + 1); i++) {
+                int w = target(i);
+                if (!visited[w]) {
+                    visited[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        return tail == V;
+    }
+
+    protected void validate(int v) {
+        validate(v, V);
+    }
+
+    // Static, so constructors can check indices without calling an overridable method
+    private static void validate(int v, int V) {
+        if (v < 0 || v >= V) {
+            throw new IllegalArgumentException("index " + v + " is not between 0 and " + (V - 1));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder();
+        s.append(V).append(" vertices, ").append(E).append(" edges\n");
+        for (int v = 0; v < V; v++) {
+            for (int i = offset(v); i < offset(v + 1); i++) {
+                if (target(i) > v) {
+                    s.append(new Edge(getNodeName(v), getNodeName(target(i)), weight(i))).append("\n");
+                }
+            }
+        }
+        return s.toString();
+    }
+}
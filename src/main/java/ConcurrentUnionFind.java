@@ -0,0 +1,85 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class ConcurrentUnionFind implements DisjointSet {
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger count;
+
+    public ConcurrentUnionFind(int n) {
+        if (n < 0) throw new IllegalArgumentException();
+        count = new AtomicInteger(n);
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    // Every parent pointer goes to a node of strictly higher priority, so a
+    // find takes at most n steps no matter what other threads do (wait-free)
+    public int find(int p) {
+        validate(p);
+        while (true) {
+            int q = parent.get(p);
+            if (q == p) return p;
+            int r = parent.get(q);
+            if (q != r) {
+                parent.compareAndSet(p, q, r); // path halving, losing the race is fine
+            }
+            p = r;
+        }
+    }
+
+    public int count() {
+        return count.get();
+    }
+
+    // Linearizable: returns false only if p's root was still a root after both finds
+    public boolean connected(int p, int q) {
+        while (true) {
+            int rootP = find(p);
+            int rootQ = find(q);
+            if (rootP == rootQ) return true;
+            if (parent.get(rootP) == rootP) return false;
+        }
+    }
+
+    public void union(int p, int q) {
+        unite(p, q);
+    }
+
+    // Returns true if this call merged two components
+    public boolean unite(int p, int q) {
+        while (true) {
+            int rootP = find(p);
+            int rootQ = find(q);
+            if (rootP == rootQ) return false;
+
+            // Link the root of lower priority below the other one
+            if (priority(rootP) > priority(rootQ)) {
+                int tmp = rootP;
+                rootP = rootQ;
+                rootQ = tmp;
+            }
+            if (parent.compareAndSet(rootP, rootP, rootQ)) {
+                count.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // Bijective hash of the index: a pseudo-random total order that plays the role of rank
+    private static int priority(int i) {
+        int h = i * 0x9E3779B1;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    private void validate(int p) {
+        int n = parent.length();
+        if (p < 0 || p >= n) {
+            throw new IllegalArgumentException("index " + p + " is not between 0 and " + (n - 1));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import java.util.*;
+
+public final class DensePrimMST extends AbstractSpanningTree {
+    // Use the array-based variant once E reaches this fraction of V(V-1)/2
+    public static final double DENSITY_THRESHOLD = 0.5;
+
+    private long operationsCount;
+    private long heapNanos;
+    private double executionTimeMs;
+
+    public static boolean isDense(int V, long E) {
+        if (V < 2) return false;
+        double maxEdges = (double) V * (V - 1) / 2.0;
+        return E >= DENSITY_THRESHOLD * maxEdges;
+    }
+
+    // Complete graph given by a weight function, e.g. distances between points
+    public DensePrimMST(List<String> nodes, WeightFunction weights) {
+        long startTime = System.nanoTime();
+        int V = nodes.size();
+        this.mstEdges = new ArrayList<>();
+        this.totalCost = 0.0;
+        this.operationsCount = 0;
+
+        double[] distTo = new double[V];
+        int[] edgeTo = new int[V];
+        boolean[] marked = new boolean[V];
+        initialize(distTo, edgeTo);
+
+        int v = V == 0 ? -1 : 0;
+        int visited = 0;
+        while (v != -1) {
+            marked[v] = true;
+            visited++;
+            if (edgeTo[v] != -1) {
+                addTreeEdge(nodes.get(edgeTo[v]), nodes.get(v), distTo[v]);
+            }
+
+            for (int w = 0; w < V; w++) {
+                if (marked[w]) continue;
+                double weight = weights.weight(v, w);
+                operationsCount++; // comparison operation
+                if (weight < distTo[w]) {
+                    distTo[w] = weight;
+                    edgeTo[w] = v;
+                    operationsCount++; // distance update
+                }
+            }
+            v = nextVertex(distTo, marked);
+        }
+
+        finish(V, visited, startTime);
+    }
+
+    public DensePrimMST(List<String> nodes, double[][] matrix) {
+        this(nodes, (i, j) -> matrix[i][j]);
+    }
+
+    public DensePrimMST(Graph G) {
+        this(new CSRGraph(G));
+    }
+
+    // O(V^2 + E) Prim: scan adjacency to relax, scan the distance array to pick the next vertex
+    public DensePrimMST(CSRGraph G) {
+        long startTime = System.nanoTime();
+        int V = G.V();
+        this.mstEdges = new ArrayList<>();
+        this.totalCost = 0.0;
+        this.operationsCount = 0;
+
+        double[] distTo = new double[V];
+        int[] edgeTo = new int[V];
+        boolean[] marked = new boolean[V];
+        initialize(distTo, edgeTo);
+
+        int v = V == 0 ? -1 : 0;
+        int visited = 0;
+        while (v != -1) {
+            marked[v] = true;
+            visited++;
+            if (edgeTo[v] != -1) {
+                addTreeEdge(G.getNodeName(edgeTo[v]), G.getNodeName(v), distTo[v]);
+            }
+
+            for (int i = G.offset(v); i < G.offset(v + 1); i++) {
+                int w = G.target(i);
+                operationsCount++; // edge examination
+                if (marked[w]) continue;
+                double weight = G.weight(i);
+                operationsCount++; // comparison operation
+                if (weight < distTo[w]) {
+                    distTo[w] = weight;
+                    edgeTo[w] = v;
+                    operationsCount++; // distance update
+                }
+            }
+            v = nextVertex(distTo, marked);
+        }
+
+        finish(V, visited, startTime);
+    }
+
+    private void initialize(double[] distTo, int[] edgeTo) {
+        for (int v = 0; v < distTo.length; v++) {
+            distTo[v] = Double.POSITIVE_INFINITY;
+            edgeTo[v] = -1;
+            operationsCount++; // initialization operation
+        }
+        if (distTo.length > 0) {
+            distTo[0] = 0.0;
+        }
+    }
+
+    private void addTreeEdge(String from, String to, double weight) {
+        mstEdges.add(new Edge(from, to, weight));
+        totalCost += weight;
+    }
+
+    // Linear scan for the closest unmarked vertex, -1 if none is reachable
+    private int nextVertex(double[] distTo, boolean[] marked) {
+        long start = System.nanoTime();
+        int min = -1;
+        for (int w = 0; w < distTo.length; w++) {
+            if (marked[w] || distTo[w] == Double.POSITIVE_INFINITY) continue;
+            operationsCount++; // comparison operation
+            if (min == -1 || distTo[w] < distTo[min]) {
+                min = w;
+            }
+        }
+        heapNanos += System.nanoTime() - start;
+        return min;
+    }
+
+    private void finish(int V, int visited, long startTime) {
+        finish(visited == V);
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+    }
+
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    // The distance-array scan does the job of a heap's delete-min
+    public long phaseTime(SolverMetrics.Phase phase) {
+        return phase == SolverMetrics.Phase.HEAP ? heapNanos : 0;
+    }
+
+    public double executionTime() {
+        return executionTimeMs;
+    }
+}
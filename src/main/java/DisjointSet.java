@@ -0,0 +1,9 @@
+public interface DisjointSet {
+    int find(int p);
+
+    boolean connected(int p, int q);
+
+    void union(int p, int q);
+
+    int count();
+}
@@ -0,0 +1,272 @@
+import java.util.*;
+
+// Minimum spanning forest of a Graph that keeps itself up to date as edges are
+// added, removed or re-weighted. Tree edges live in a link-cut tree as nodes of
+// their own, so the heaviest edge on any tree path is found in O(log V) amortized
+// time; the component count is maintained with every link and cut.
+public class DynamicMST {
+    private final Graph G;
+    private final LinkCutTree tree;
+    // Per link-cut node: the tree edge it stands for, null for vertex nodes
+    private Edge[] edgeAt;
+    private int[] fromAt;
+    private int[] toAt;
+    private final Map<Edge, Integer> nodeOf = new IdentityHashMap<>();
+    // Tree adjacency as link-cut node ids, for the replacement search
+    private int[][] treeAdj;
+    private int[] treeDegree;
+    // Scratch for the replacement search: side[v] == stamp marks a visited vertex
+    private final int[] side;
+    private int stamp;
+    private final int[] queueV;
+    private final int[] queueW;
+    private double totalCost;
+    private int components;
+    private long operationsCount;
+
+    // Solves G once with Kruskal; G must not be modified except through this object
+    public DynamicMST(Graph G) {
+        this.G = G;
+        int V = G.V();
+        this.tree = new LinkCutTree(2 * V);
+        this.edgeAt = new Edge[Math.max(16, 2 * V)];
+        this.fromAt = new int[edgeAt.length];
+        this.toAt = new int[edgeAt.length];
+        this.treeAdj = new int[V][];
+        this.treeDegree = new int[V];
+        this.side = new int[V];
+        this.queueV = new int[V];
+        this.queueW = new int[V];
+        this.components = V;
+        for (int v = 0; v < V; v++) {
+            tree.addNode(Double.NEGATIVE_INFINITY);
+            treeAdj[v] = new int[2];
+        }
+
+        List<Edge> edges = new ArrayList<>(G.edges());
+        Collections.sort(edges);
+        UnionFind uf = new UnionFind(V);
+        for (Edge e : edges) {
+            int v = G.getNodeIndex(e.either());
+            int w = G.getNodeIndex(e.other(e.either()));
+            operationsCount++;
+            if (!uf.connected(v, w)) {
+                uf.union(v, w);
+                link(e, v, w);
+            }
+        }
+    }
+
+    // Adds e to the graph; returns true if the spanning forest changed
+    public boolean addEdge(Edge e) {
+        G.addEdge(e);
+        int v = G.getNodeIndex(e.either());
+        int w = G.getNodeIndex(e.other(e.either()));
+        operationsCount++;
+        if (v == w) return false;
+
+        if (!tree.connected(v, w)) {
+            link(e, v, w);
+            return true;
+        }
+
+        // Cycle property: the new edge replaces the heaviest edge on the tree path if lighter
+        int heaviest = tree.pathMax(v, w);
+        operationsCount++;
+        if (tree.value(heaviest) <= e.weight()) return false;
+
+        unlink(heaviest);
+        link(e, v, w);
+        return true;
+    }
+
+    // Removes e from the graph; returns true if the spanning forest changed
+    public boolean removeEdge(Edge e) {
+        G.removeEdge(e);
+        operationsCount++;
+        Integer x = nodeOf.get(e);
+        if (x == null) return false;
+
+        int v = fromAt[x];
+        int w = toAt[x];
+        unlink(x);
+
+        // Cut property: the lightest graph edge across the cut, if any, reconnects the two sides
+        Edge replacement = lightestCrossing(v, w);
+        if (replacement != null) {
+            link(replacement, G.getNodeIndex(replacement.either()), G.getNodeIndex(replacement.other(replacement.either())));
+        }
+        return true;
+    }
+
+    // Replaces e by an edge of the same endpoints and the new weight, which is returned
+    public Edge updateWeight(Edge e, double weight) {
+        String v = e.either();
+        Edge updated = new Edge(v, e.other(v), weight);
+        Integer x = nodeOf.get(e);
+        operationsCount++;
+
+        boolean stays = x != null ? weight <= e.weight() : weight >= e.weight();
+        if (!stays) {
+            removeEdge(e);
+            addEdge(updated);
+            return updated;
+        }
+
+        // A lighter tree edge or a heavier non-tree edge leaves the forest's shape unchanged
+        G.removeEdge(e);
+        G.addEdge(updated);
+        if (x != null) {
+            nodeOf.remove(e);
+            nodeOf.put(updated, x);
+            edgeAt[x] = updated;
+            tree.setValue(x, weight);
+            totalCost += weight - e.weight();
+        }
+        return updated;
+    }
+
+    // Explores both sides of a cut tree edge in lockstep, so only the smaller side is
+    // fully visited, then scans that side's graph edges for the lightest one leaving it
+    private Edge lightestCrossing(int v, int w) {
+        stamp += 2;
+        int small = stamp - 1;
+        int large = stamp;
+        int headV = 0, tailV = 0, headW = 0, tailW = 0;
+        queueV[tailV++] = v;
+        side[v] = small;
+        queueW[tailW++] = w;
+        side[w] = large;
+
+        int[] queue;
+        int size;
+        while (true) {
+            if (headV == tailV) {
+                queue = queueV;
+                size = tailV;
+                break;
+            }
+            if (headW == tailW) {
+                queue = queueW;
+                size = tailW;
+                int swap = small;
+                small = large;
+                large = swap;
+                break;
+            }
+            tailV = visit(queueV[headV++], queueV, tailV, small);
+            tailW = visit(queueW[headW++], queueW, tailW, large);
+        }
+
+        Edge best = null;
+        for (int i = 0; i < size; i++) {
+            String name = G.getNodeName(queue[i]);
+            for (Edge e : G.adj(name)) {
+                operationsCount++;
+                if (side[G.getNodeIndex(e.other(name))] == small) continue;
+                if (best == null || e.weight() < best.weight()) best = e;
+            }
+        }
+        return best;
+    }
+
+    private int visit(int u, int[] queue, int tail, int mark) {
+        for (int i = 0; i < treeDegree[u]; i++) {
+            int x = treeAdj[u][i];
+            int next = fromAt[x] == u ? toAt[x] : fromAt[x];
+            operationsCount++;
+            if (side[next] != mark) {
+                side[next] = mark;
+                queue[tail++] = next;
+            }
+        }
+        return tail;
+    }
+
+    private void link(Edge e, int v, int w) {
+        int x = tree.addNode(e.weight());
+        if (x >= edgeAt.length) {
+            int capacity = Math.max(x + 1, 2 * edgeAt.length);
+            edgeAt = Arrays.copyOf(edgeAt, capacity);
+            fromAt = Arrays.copyOf(fromAt, capacity);
+            toAt = Arrays.copyOf(toAt, capacity);
+        }
+        edgeAt[x] = e;
+        fromAt[x] = v;
+        toAt[x] = w;
+        nodeOf.put(e, x);
+        addTreeAdj(v, x);
+        addTreeAdj(w, x);
+        tree.link(v, x);
+        tree.link(x, w);
+        totalCost += e.weight();
+        components--;
+        operationsCount++;
+    }
+
+    private void unlink(int x) {
+        tree.cut(fromAt[x], x);
+        tree.cut(x, toAt[x]);
+        tree.removeNode(x);
+        removeTreeAdj(fromAt[x], x);
+        removeTreeAdj(toAt[x], x);
+        nodeOf.remove(edgeAt[x]);
+        totalCost -= edgeAt[x].weight();
+        edgeAt[x] = null;
+        components++;
+        operationsCount++;
+    }
+
+    private void addTreeAdj(int v, int x) {
+        if (treeDegree[v] == treeAdj[v].length) {
+            treeAdj[v] = Arrays.copyOf(treeAdj[v], 2 * treeDegree[v]);
+        }
+        treeAdj[v][treeDegree[v]++] = x;
+    }
+
+    private void removeTreeAdj(int v, int x) {
+        int[] list = treeAdj[v];
+        for (int i = 0; i < treeDegree[v]; i++) {
+            if (list[i] == x) {
+                list[i] = list[--treeDegree[v]];
+                return;
+            }
+        }
+    }
+
+    public List<Edge> edges() {
+        List<Edge> list = new ArrayList<>(nodeOf.size());
+        for (Edge e : edgeAt) {
+            if (e != null) list.add(e);
+        }
+        return list;
+    }
+
+    public double weight() {
+        return totalCost;
+    }
+
+    public int componentCount() {
+        return components;
+    }
+
+    public boolean isConnected() {
+        return components <= 1;
+    }
+
+    public boolean connected(String v, String w) {
+        return tree.connected(G.getNodeIndex(v), G.getNodeIndex(w));
+    }
+
+    public boolean contains(Edge e) {
+        return nodeOf.containsKey(e);
+    }
+
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    public Graph graph() {
+        return G;
+    }
+}
@@ -0,0 +1,95 @@
+import java.util.*;
+
+public final class EagerPrimMST extends AbstractSpanningTree {
+    public static final int DEFAULT_ARITY = 4;
+
+    private long operationsCount;
+    private long heapNanos;
+    private double executionTimeMs;
+
+    public EagerPrimMST(Graph G) {
+        this(new CSRGraph(G), DEFAULT_ARITY);
+    }
+
+    public EagerPrimMST(CSRGraph G) {
+        this(G, DEFAULT_ARITY);
+    }
+
+    public EagerPrimMST(CSRGraph G, int arity) {
+        long startTime = System.nanoTime();
+        this.mstEdges = new ArrayList<>();
+        this.totalCost = 0.0;
+        this.operationsCount = 0;
+        this.isConnected = true;
+
+        if (G.V() == 0) {
+            long endTime = System.nanoTime();
+            this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return;
+        }
+
+        double[] distTo = new double[G.V()];
+        int[] edgeTo = new int[G.V()];
+        boolean[] marked = new boolean[G.V()];
+        IndexMinPQ pq = new IndexMinPQ(G.V(), arity);
+
+        for (int v = 0; v < G.V(); v++) {
+            distTo[v] = Double.POSITIVE_INFINITY;
+            edgeTo[v] = -1;
+            operationsCount++; // initialization operation
+        }
+
+        distTo[0] = 0.0;
+        pq.insert(0, 0.0);
+        operationsCount++; // insert operation
+
+        long heapStart = System.nanoTime();
+        while (!pq.isEmpty()) {
+            int v = pq.delMin();
+            marked[v] = true;
+            operationsCount++; // delete-min operation
+
+            if (edgeTo[v] != -1) {
+                mstEdges.add(new Edge(G.getNodeName(edgeTo[v]), G.getNodeName(v), distTo[v]));
+                totalCost += distTo[v];
+            }
+
+            for (int i = G.offset(v); i < G.offset(v + 1); i++) {
+                int w = G.target(i);
+                operationsCount++; // edge examination
+
+                if (marked[w]) continue;
+
+                double weight = G.weight(i);
+                operationsCount++; // comparison operation
+
+                if (weight < distTo[w]) {
+                    distTo[w] = weight;
+                    edgeTo[w] = v;
+                    if (pq.contains(w)) pq.decreaseKey(w, weight);
+                    else pq.insert(w, weight);
+                    operationsCount++; // priority queue update
+                }
+            }
+        }
+
+        this.heapNanos = System.nanoTime() - heapStart;
+
+        finish(mstEdges.size() == G.V() - 1);
+
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+    }
+
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    public long phaseTime(SolverMetrics.Phase phase) {
+        return phase == SolverMetrics.Phase.HEAP ? heapNanos : 0;
+    }
+
+    public double executionTime() {
+        return executionTimeMs;
+    }
+}
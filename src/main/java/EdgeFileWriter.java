@@ -0,0 +1,55 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+// Flat binary edge file, no header: one 16-byte little-endian record per edge,
+//   int from, int to, double weight
+// the input format of ExternalKruskalMST, which also uses it for its sorted runs
+public class EdgeFileWriter implements EdgeSink, Closeable {
+    public static final String EXTENSION = ".edges";
+    public static final int RECORD_BYTES = 16;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long count;
+
+    public EdgeFileWriter(Path path) throws IOException {
+        this(path, BUFFER_SIZE);
+    }
+
+    public EdgeFileWriter(Path path, int bufferSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        int capacity = Math.max(RECORD_BYTES, bufferSize / RECORD_BYTES * RECORD_BYTES);
+        this.buffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public void edge(int v, int w, double weight) throws IOException {
+        if (buffer.remaining() < RECORD_BYTES) flush();
+        buffer.putInt(v).putInt(w).putDouble(weight);
+        count++;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
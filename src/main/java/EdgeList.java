@@ -0,0 +1,174 @@
+import java.util.*;
+
+public class EdgeList {
+    private final int V;
+    private int[] from;
+    private int[] to;
+    private double[] weight;
+    private int size;
+
+    public EdgeList(int V, int capacity) {
+        if (V < 0 || capacity < 0) throw new IllegalArgumentException();
+        this.V = V;
+        this.from = new int[capacity];
+        this.to = new int[capacity];
+        this.weight = new double[capacity];
+        this.size = 0;
+    }
+
+    // Every undirected edge of G once, from the adjacency copy with from < to
+    public EdgeList(CSRGraph G) {
+        this(G.V(), G.E());
+        for (int v = 0; v < G.V(); v++) {
+            for (int i = G.offset(v); i < G.offset(v + 1); i++) {
+                if (G.target(i) > v) {
+                    add(v, G.target(i), G.weight(i));
+                }
+            }
+        }
+    }
+
+    public final void add(int v, int w, double weight) {
+        if (v < 0 || v >= V || w < 0 || w >= V) {
+            throw new IllegalArgumentException("Vertex not in graph");
+        }
+        if (Double.isNaN(weight)) {
+            throw new IllegalArgumentException("Weight is NaN");
+        }
+        if (size == from.length) {
+            int capacity = Math.max(16, size + (size >> 1));
+            from = Arrays.copyOf(from, capacity);
+            to = Arrays.copyOf(to, capacity);
+            this.weight = Arrays.copyOf(this.weight, capacity);
+        }
+        from[size] = v;
+        to[size] = w;
+        this.weight[size] = weight;
+        size++;
+    }
+
+    // Empties the list but keeps its arrays for reuse
+    public void clear() {
+        size = 0;
+    }
+
+    public int V() {
+        return V;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int from(int i) {
+        return from[i];
+    }
+
+    public int to(int i) {
+        return to[i];
+    }
+
+    public double weight(int i) {
+        return weight[i];
+    }
+
+    public boolean hasIntegralWeights() {
+        for (int i = 0; i < size; i++) {
+            double w = weight[i];
+            if (w != Math.rint(w) || Math.abs(w) > Integer.MAX_VALUE) return false;
+        }
+        return true;
+    }
+
+    // Stable LSD radix sort by weight
+    public void sortByWeight() {
+        if (size < 2) return;
+
+        long[] keys = new long[size];
+        if (hasIntegralWeights()) {
+            // Shift integral weights to start at zero so only the low bytes vary
+            long min = Long.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                min = Math.min(min, (long) weight[i]);
+            }
+            for (int i = 0; i < size; i++) {
+                keys[i] = (long) weight[i] - min;
+            }
+        } else {
+            // Flip IEEE-754 bits so that unsigned order matches numeric order
+            for (int i = 0; i < size; i++) {
+                long bits = Double.doubleToLongBits(weight[i]);
+                keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+            }
+        }
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        radixSort(keys, order);
+
+        int[] sortedFrom = new int[size];
+        int[] sortedTo = new int[size];
+        double[] sortedWeight = new double[size];
+        for (int i = 0; i < size; i++) {
+            sortedFrom[i] = from[order[i]];
+            sortedTo[i] = to[order[i]];
+            sortedWeight[i] = weight[order[i]];
+        }
+        from = sortedFrom;
+        to = sortedTo;
+        weight = sortedWeight;
+    }
+
+    // Byte-wise passes over unsigned 64-bit keys, skipping bytes all keys share
+    private static void radixSort(long[] keys, int[] order) {
+        int n = keys.length;
+        int[][] counts = new int[8][257];
+        for (long key : keys) {
+            for (int b = 0; b < 8; b++) {
+                counts[b][(int) ((key >>> (8 * b)) & 0xFF) + 1]++;
+            }
+        }
+
+        long[] srcKeys = keys;
+        int[] srcOrder = order;
+        long[] dstKeys = new long[n];
+        int[] dstOrder = new int[n];
+        for (int b = 0; b < 8; b++) {
+            int[] count = counts[b];
+            if (isTrivialPass(count, n)) continue;
+
+            for (int r = 0; r < 256; r++) {
+                count[r + 1] += count[r];
+            }
+            int shift = 8 * b;
+            for (int i = 0; i < n; i++) {
+                int r = (int) ((srcKeys[i] >>> shift) & 0xFF);
+                int pos = count[r]++;
+                dstKeys[pos] = srcKeys[i];
+                dstOrder[pos] = srcOrder[i];
+            }
+
+            long[] tmpKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tmpKeys;
+            int[] tmpOrder = srcOrder;
+            srcOrder = dstOrder;
+            dstOrder = tmpOrder;
+        }
+
+        if (srcOrder != order) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            System.arraycopy(srcOrder, 0, order, 0, n);
+        }
+    }
+
+    private static boolean isTrivialPass(int[] count, int n) {
+        for (int r = 1; r <= 256; r++) {
+            if (count[r] == n) return true;
+            if (count[r] != 0) return false;
+        }
+        return false;
+    }
+}
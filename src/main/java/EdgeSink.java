@@ -0,0 +1,7 @@
+import java.io.IOException;
+
+@FunctionalInterface
+public interface EdgeSink {
+    // Receives one undirected edge v-w between vertex indices
+    void edge(int v, int w, double weight) throws IOException;
+}
@@ -0,0 +1,320 @@
+import java.util.*;
+
+// Minimum spanning tree of the complete graph on a point set, weighted by Euclidean
+// distance, without materializing its n(n-1)/2 edges. Borůvka rounds over a k-d tree:
+// every point looks for its nearest point in another component, skipping subtrees that
+// lie entirely in its own component or farther than the best edge its component has so
+// far. O(log n) rounds of roughly O(n log n) each, O(n) memory.
+public class EuclideanMST extends AbstractSpanningTree {
+    public static final String LABEL = "euclidean";
+    private static final int LEAF_SIZE = 8;
+
+    private final List<String> nodes;
+    private final double[] coordinates;
+    private final int dimension;
+    private final int n;
+
+    // k-d tree in preorder: node k covers points index[lo[k]..hi[k]) inside box [min, max]
+    private int[] index;
+    private int[] lo;
+    private int[] hi;
+    private int[] left;
+    private int[] right;
+    private double[] boxMin;
+    private double[] boxMax;
+    private int nodeCount;
+    // Component of every point in the subtree, or -1 if it spans several
+    private int[] nodeComponent;
+
+    private long operationsCount;
+    private long buildNanos;
+    private long unionFindNanos;
+    private double executionTimeMs;
+
+    // coordinates holds point i at [i * dimension, (i + 1) * dimension); nodes names the points
+    public EuclideanMST(List<String> nodes, double[] coordinates, int dimension) {
+        long startTime = System.nanoTime();
+        if (dimension < 1 && !nodes.isEmpty()) throw new IllegalArgumentException("Dimension must be positive");
+        if (coordinates.length != (long) nodes.size() * dimension) {
+            throw new IllegalArgumentException("Expected " + nodes.size() + " points of dimension " + dimension);
+        }
+        for (double c : coordinates) {
+            if (!Double.isFinite(c)) throw new IllegalArgumentException("Coordinate is not finite");
+        }
+        this.nodes = nodes;
+        this.coordinates = coordinates;
+        this.dimension = dimension;
+        this.n = nodes.size();
+        this.operationsCount = 0;
+
+        if (n < 2) {
+            long endTime = System.nanoTime();
+            this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return;
+        }
+
+        long buildStart = System.nanoTime();
+        buildTree();
+        long unionFindStart = System.nanoTime();
+        this.buildNanos = unionFindStart - buildStart;
+        boruvka();
+        this.unionFindNanos = System.nanoTime() - unionFindStart;
+
+        // Working state is only needed during construction
+        this.index = null;
+        this.lo = null;
+        this.hi = null;
+        this.left = null;
+        this.right = null;
+        this.boxMin = null;
+        this.boxMax = null;
+        this.nodeComponent = null;
+
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+    }
+
+    public static double distance(double[] coordinates, int dimension, int i, int j) {
+        return Math.sqrt(distance2(coordinates, dimension, i, j));
+    }
+
+    private static double distance2(double[] coordinates, int dimension, int i, int j) {
+        double sum = 0.0;
+        for (int d = 0; d < dimension; d++) {
+            double delta = coordinates[i * dimension + d] - coordinates[j * dimension + d];
+            sum += delta * delta;
+        }
+        return sum;
+    }
+
+    private void buildTree() {
+        // Median splits leave leaves at least half full
+        int capacity = 4 * ((n + LEAF_SIZE - 1) / LEAF_SIZE) + 1;
+        this.index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        this.lo = new int[capacity];
+        this.hi = new int[capacity];
+        this.left = new int[capacity];
+        this.right = new int[capacity];
+        this.boxMin = new double[capacity * dimension];
+        this.boxMax = new double[capacity * dimension];
+        this.nodeComponent = new int[capacity];
+        build(0, n);
+    }
+
+    // Splits the widest side of the bounding box at the median
+    private int build(int from, int to) {
+        int node = nodeCount++;
+        if (node == lo.length) grow();
+        lo[node] = from;
+        hi[node] = to;
+        left[node] = -1;
+        right[node] = -1;
+
+        int widest = 0;
+        double widestExtent = -1;
+        for (int d = 0; d < dimension; d++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int k = from; k < to; k++) {
+                double c = coordinates[index[k] * dimension + d];
+                min = Math.min(min, c);
+                max = Math.max(max, c);
+            }
+            boxMin[node * dimension + d] = min;
+            boxMax[node * dimension + d] = max;
+            if (max - min > widestExtent) {
+                widestExtent = max - min;
+                widest = d;
+            }
+        }
+        operationsCount += (long) (to - from) * dimension;
+
+        if (to - from <= LEAF_SIZE || widestExtent == 0) return node;
+        int mid = (from + to) >>> 1;
+        select(from, to, mid, widest);
+        // Children may grow the arrays, so they are built before anything is stored
+        int leftChild = build(from, mid);
+        int rightChild = build(mid, to);
+        left[node] = leftChild;
+        right[node] = rightChild;
+        return node;
+    }
+
+    // Quickselect: index[mid] gets the point of rank mid along axis, smaller ones before it
+    private void select(int from, int to, int mid, int axis) {
+        int l = from;
+        int r = to - 1;
+        while (l < r) {
+            double pivot = coordinates[index[(l + r) >>> 1] * dimension + axis];
+            int i = l;
+            int j = r;
+            while (i <= j) {
+                while (coordinates[index[i] * dimension + axis] < pivot) i++;
+                while (coordinates[index[j] * dimension + axis] > pivot) j--;
+                if (i <= j) {
+                    int swap = index[i];
+                    index[i++] = index[j];
+                    index[j--] = swap;
+                }
+                operationsCount++;
+            }
+            if (mid <= j) r = j;
+            else if (mid >= i) l = i;
+            else break;
+        }
+    }
+
+    private void grow() {
+        int capacity = 2 * lo.length;
+        lo = Arrays.copyOf(lo, capacity);
+        hi = Arrays.copyOf(hi, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        boxMin = Arrays.copyOf(boxMin, capacity * dimension);
+        boxMax = Arrays.copyOf(boxMax, capacity * dimension);
+        nodeComponent = Arrays.copyOf(nodeComponent, capacity);
+    }
+
+    private void boruvka() {
+        UnionFind uf = new UnionFind(n);
+        int[] component = new int[n];
+        // Lightest edge leaving each component so far, by squared length then endpoints
+        double[] bestLength = new double[n];
+        int[] bestFrom = new int[n];
+        int[] bestTo = new int[n];
+        int[] stack = new int[Math.max(64, 2 * nodeCount)];
+
+        while (uf.count() > 1) {
+            for (int p = 0; p < n; p++) {
+                component[p] = uf.find(p);
+            }
+            Arrays.fill(bestLength, Double.POSITIVE_INFINITY);
+            Arrays.fill(bestFrom, -1);
+            labelNodes(component);
+
+            for (int p = 0; p < n; p++) {
+                nearestOutside(p, component, bestLength, bestFrom, bestTo, stack);
+            }
+
+            for (int c = 0; c < n; c++) {
+                if (component[c] != c || bestFrom[c] == -1) continue;
+                int v = bestFrom[c];
+                int w = bestTo[c];
+                operationsCount++;
+                if (!uf.connected(v, w)) {
+                    uf.union(v, w);
+                    double length = distance(coordinates, dimension, v, w);
+                    mstEdges.add(new Edge(nodes.get(v), nodes.get(w), length));
+                    totalCost += length;
+                }
+            }
+        }
+    }
+
+    // Children come after their parent in preorder, so a reverse sweep sees children first
+    private void labelNodes(int[] component) {
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            int label;
+            if (left[node] == -1) {
+                label = component[index[lo[node]]];
+                for (int k = lo[node] + 1; k < hi[node] && label != -1; k++) {
+                    if (component[index[k]] != label) label = -1;
+                }
+            } else {
+                label = nodeComponent[left[node]] == nodeComponent[right[node]] ? nodeComponent[left[node]] : -1;
+            }
+            nodeComponent[node] = label;
+        }
+    }
+
+    private void nearestOutside(int p, int[] component, double[] bestLength, int[] bestFrom, int[] bestTo,
+                                int[] stack) {
+        int c = component[p];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            operationsCount++;
+            // Equal distances are still explored, a tie may be broken in their favour
+            if (nodeComponent[node] == c || boxDistance2(p, node) > bestLength[c]) continue;
+
+            if (left[node] == -1) {
+                for (int k = lo[node]; k < hi[node]; k++) {
+                    int q = index[k];
+                    if (component[q] == c) continue;
+                    double length = distance2(coordinates, dimension, p, q);
+                    operationsCount++;
+                    if (isLighter(length, p, q, bestLength[c], bestFrom[c], bestTo[c])) {
+                        bestLength[c] = length;
+                        bestFrom[c] = p;
+                        bestTo[c] = q;
+                    }
+                }
+                continue;
+            }
+
+            // Nearer child on top of the stack, so it tightens the bound first
+            int near = left[node];
+            int far = right[node];
+            if (boxDistance2(p, far) < boxDistance2(p, near)) {
+                near = right[node];
+                far = left[node];
+            }
+            if (top + 2 > stack.length) stack = Arrays.copyOf(stack, 2 * stack.length);
+            stack[top++] = far;
+            stack[top++] = near;
+        }
+    }
+
+    // Ties in length are broken by endpoints, a total order that keeps Borůvka from closing cycles
+    private static boolean isLighter(double length, int v, int w, double bestLength, int bestV, int bestW) {
+        if (length != bestLength) return length < bestLength;
+        if (bestV == -1) return true;
+        int a = Math.min(v, w);
+        int b = Math.min(bestV, bestW);
+        if (a != b) return a < b;
+        return Math.max(v, w) < Math.max(bestV, bestW);
+    }
+
+    private double boxDistance2(int p, int node) {
+        double sum = 0.0;
+        for (int d = 0; d < dimension; d++) {
+            double c = coordinates[p * dimension + d];
+            double min = boxMin[node * dimension + d];
+            double max = boxMax[node * dimension + d];
+            double delta = c < min ? min - c : (c > max ? c - max : 0.0);
+            sum += delta * delta;
+        }
+        return sum;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    // The k-d tree is the graph this engine builds; the Borůvka rounds merge components
+    public long phaseTime(SolverMetrics.Phase phase) {
+        switch (phase) {
+            case BUILD: return buildNanos;
+            case UNION_FIND: return unionFindNanos;
+            default: return 0;
+        }
+    }
+
+    public double executionTime() {
+        return executionTimeMs;
+    }
+
+    // Lengths are square roots, so their sum drifts further than integer weights do
+    @Override
+    protected double tolerance() {
+        return 1.0E-9;
+    }
+}
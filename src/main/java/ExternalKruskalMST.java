@@ -0,0 +1,358 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+// Semi-external Kruskal for edge files larger than the heap. Only the union-find and
+// the tree (O(V)) plus one run buffer stay in memory: the edge file is cut into runs
+// that are radix sorted and spilled to temporary files, then the runs are k-way merged
+// by weight while unioning, stopping as soon as the tree is complete.
+public final class ExternalKruskalMST extends AbstractSpanningTree {
+    // Edges per in-memory run; sorting takes about 60 bytes of heap per edge
+    public static final int DEFAULT_RUN_EDGES = 1 << 21;
+    // Runs merged at once; beyond this runs are first merged in groups into longer runs
+    static final int MAX_FAN_IN = 256;
+    private static final int READ_BUFFER = 1 << 16;
+
+    private final List<String> nodes;
+    private final int[] treeFrom;
+    private final int[] treeTo;
+    private final double[] treeWeight;
+    private int treeSize;
+    private long operationsCount;
+    private long sortNanos;
+    private long unionFindNanos;
+    private double executionTimeMs;
+    private int runCount;
+
+    public ExternalKruskalMST(List<String> nodes, Path edgeFile) throws IOException {
+        this(nodes, edgeFile, Paths.get(System.getProperty("java.io.tmpdir")), DEFAULT_RUN_EDGES);
+    }
+
+    // Vertices are named by nodes; edgeFile holds EdgeFileWriter records over 0..V-1
+    public ExternalKruskalMST(List<String> nodes, Path edgeFile, Path tempDir, int runEdges) throws IOException {
+        if (runEdges < 1) throw new IllegalArgumentException("Run size must be positive");
+        long startTime = System.nanoTime();
+        this.nodes = nodes;
+        int V = nodes.size();
+        this.treeFrom = new int[Math.max(0, V - 1)];
+        this.treeTo = new int[treeFrom.length];
+        this.treeWeight = new double[treeFrom.length];
+        this.totalCost = 0.0;
+        this.operationsCount = 0;
+        this.isConnected = true;
+
+        long fileBytes = Files.size(edgeFile);
+        if (fileBytes % EdgeFileWriter.RECORD_BYTES != 0) {
+            throw new IOException("Truncated edge file " + edgeFile);
+        }
+        if (V == 0) {
+            long endTime = System.nanoTime();
+            this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return;
+        }
+
+        UnionFind uf = new UnionFind(V);
+        List<Path> runs = new ArrayList<>();
+        try {
+            long sortStart = System.nanoTime();
+            EdgeList run = formRuns(edgeFile, tempDir, runEdges, V, runs);
+            if (run != null) {
+                // Everything fit in one run, so there is nothing to spill or merge
+                long unionFindStart = System.nanoTime();
+                this.sortNanos = unionFindStart - sortStart;
+                this.runCount = 1;
+                for (int i = 0; i < run.size() && treeSize < V - 1; i++) {
+                    union(uf, run.from(i), run.to(i), run.weight(i));
+                }
+                this.unionFindNanos = System.nanoTime() - unionFindStart;
+            } else {
+                this.runCount = runs.size();
+                while (runs.size() > MAX_FAN_IN) {
+                    runs = mergePass(runs, tempDir);
+                }
+                long unionFindStart = System.nanoTime();
+                this.sortNanos = unionFindStart - sortStart;
+                try (RunMerger merger = new RunMerger(runs)) {
+                    while (treeSize < V - 1 && merger.next()) {
+                        RunReader r = merger.current();
+                        union(uf, r.from, r.to, r.weight);
+                    }
+                }
+                this.unionFindNanos = System.nanoTime() - unionFindStart;
+            }
+        } finally {
+            for (Path path : runs) {
+                Files.deleteIfExists(path);
+            }
+        }
+
+        // Connectivity falls out of the union-find: one component left means a spanning tree
+        finish(uf.count() == 1);
+        // The tree lives in treeFrom/treeTo/treeWeight rather than in mstEdges
+        if (!isConnected) treeSize = 0;
+
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+    }
+
+    private void union(UnionFind uf, int v, int w, double weight) {
+        operationsCount++;
+        operationsCount++;
+        if (!uf.connected(v, w)) {
+            uf.union(v, w);
+            treeFrom[treeSize] = v;
+            treeTo[treeSize] = w;
+            treeWeight[treeSize] = weight;
+            treeSize++;
+            totalCost += weight;
+            operationsCount++;
+        }
+    }
+
+    // Cuts the edge file into sorted runs; returns the only run, unspilled, if there is just one
+    private EdgeList formRuns(Path edgeFile, Path tempDir, int runEdges, int V, List<Path> runs) throws IOException {
+        long edges = Files.size(edgeFile) / EdgeFileWriter.RECORD_BYTES;
+        EdgeList run = new EdgeList(V, (int) Math.min(runEdges, edges));
+        try (RunReader in = new RunReader(edgeFile, 1 << 20)) {
+            boolean more = in.next();
+            while (more) {
+                run.clear();
+                while (more && run.size() < runEdges) {
+                    // Self-loops can never join two components
+                    if (in.from != in.to) run.add(in.from, in.to, in.weight);
+                    operationsCount++;
+                    more = in.next();
+                }
+                run.sortByWeight();
+                operationsCount += (long) run.size() * (int) (Math.log(Math.max(1, run.size())) / Math.log(2));
+                if (!more && runs.isEmpty()) return run;
+
+                Path path = Files.createTempFile(tempDir, "mst-run", EdgeFileWriter.EXTENSION);
+                runs.add(path);
+                try (EdgeFileWriter out = new EdgeFileWriter(path)) {
+                    for (int i = 0; i < run.size(); i++) {
+                        out.edge(run.from(i), run.to(i), run.weight(i));
+                    }
+                }
+            }
+        }
+        return runs.isEmpty() ? run : null;
+    }
+
+    // Merges groups of MAX_FAN_IN runs into one run each, deleting the inputs
+    private List<Path> mergePass(List<Path> runs, Path tempDir) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int lo = 0; lo < runs.size(); lo += MAX_FAN_IN) {
+                List<Path> group = runs.subList(lo, Math.min(runs.size(), lo + MAX_FAN_IN));
+                Path path = Files.createTempFile(tempDir, "mst-run", EdgeFileWriter.EXTENSION);
+                merged.add(path);
+                try (RunMerger merger = new RunMerger(group);
+                     EdgeFileWriter out = new EdgeFileWriter(path)) {
+                    while (merger.next()) {
+                        RunReader r = merger.current();
+                        out.edge(r.from, r.to, r.weight);
+                        operationsCount++;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path path : merged) {
+                Files.deleteIfExists(path);
+            }
+            throw e;
+        }
+        for (Path path : runs) {
+            Files.deleteIfExists(path);
+        }
+        return merged;
+    }
+
+    // Sequential reader of EdgeFileWriter records
+    private static class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        int from;
+        int to;
+        double weight;
+
+        RunReader(Path path, int bufferSize) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+        }
+
+        boolean next() throws IOException {
+            if (buffer.remaining() < EdgeFileWriter.RECORD_BYTES) {
+                buffer.compact();
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // keep filling until the buffer is full or the file ends
+                }
+                buffer.flip();
+                if (buffer.remaining() < EdgeFileWriter.RECORD_BYTES) {
+                    if (buffer.hasRemaining()) throw new IOException("Truncated edge file");
+                    return false;
+                }
+            }
+            from = buffer.getInt();
+            to = buffer.getInt();
+            weight = buffer.getDouble();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // K-way merge of sorted runs with a binary heap of readers; ties go to the
+    // earlier run, so the merged order is the stable sort of the whole file
+    private static class RunMerger implements Closeable {
+        private final RunReader[] readers;
+        private final int[] heap;
+        private int size;
+        private boolean started;
+
+        RunMerger(List<Path> runs) throws IOException {
+            this.readers = new RunReader[runs.size()];
+            this.heap = new int[runs.size()];
+            try {
+                for (int i = 0; i < readers.length; i++) {
+                    readers[i] = new RunReader(runs.get(i), READ_BUFFER);
+                    if (readers[i].next()) heap[size++] = i;
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+            for (int k = size / 2 - 1; k >= 0; k--) {
+                sink(k);
+            }
+        }
+
+        boolean next() throws IOException {
+            if (started && size > 0) {
+                if (!readers[heap[0]].next()) heap[0] = heap[--size];
+                sink(0);
+            }
+            started = true;
+            return size > 0;
+        }
+
+        RunReader current() {
+            return readers[heap[0]];
+        }
+
+        private void sink(int k) {
+            while (2 * k + 1 < size) {
+                int j = 2 * k + 1;
+                if (j + 1 < size && less(heap[j + 1], heap[j])) j++;
+                if (!less(heap[j], heap[k])) break;
+                int swap = heap[k];
+                heap[k] = heap[j];
+                heap[j] = swap;
+                k = j;
+            }
+        }
+
+        private boolean less(int a, int b) {
+            int cmp = Double.compare(readers[a].weight, readers[b].weight);
+            return cmp < 0 || (cmp == 0 && a < b);
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException failure = null;
+            for (RunReader reader : readers) {
+                if (reader == null) continue;
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) throw failure;
+        }
+    }
+
+    // Tree edges as vertex indices, without creating Edge objects
+    public void forEachEdge(IntIntDoubleConsumer action) {
+        for (int i = 0; i < treeSize; i++) {
+            action.accept(treeFrom[i], treeTo[i], treeWeight[i]);
+        }
+    }
+
+    // Sorted runs the edge file was cut into, 1 if it was solved in memory
+    public int runCount() {
+        return runCount;
+    }
+
+    public List<Edge> edges() {
+        List<Edge> list = new ArrayList<>(treeSize);
+        for (int i = 0; i < treeSize; i++) {
+            list.add(new Edge(nodes.get(treeFrom[i]), nodes.get(treeTo[i]), treeWeight[i]));
+        }
+        return list;
+    }
+
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    public long phaseTime(SolverMetrics.Phase phase) {
+        switch (phase) {
+            case SORT: return sortNanos;
+            case UNION_FIND: return unionFindNanos;
+            default: return 0;
+        }
+    }
+
+    public double executionTime() {
+        return executionTimeMs;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: ExternalKruskalMST <graph" + EdgeFileWriter.EXTENSION + "> <vertices>"
+                    + " [--run-edges=N] [--tmp=DIR] [--tree=<tree" + EdgeFileWriter.EXTENSION + ">]");
+            return;
+        }
+        int runEdges = DEFAULT_RUN_EDGES;
+        Path tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        Path treeFile = null;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].startsWith("--run-edges=")) {
+                runEdges = Integer.parseInt(args[i].substring("--run-edges=".length()));
+            } else if (args[i].startsWith("--tmp=")) {
+                tempDir = Paths.get(args[i].substring("--tmp=".length()));
+            } else if (args[i].startsWith("--tree=")) {
+                treeFile = Paths.get(args[i].substring("--tree=".length()));
+            }
+        }
+
+        try {
+            int V = Integer.parseInt(args[1]);
+            ExternalKruskalMST mst = new ExternalKruskalMST(GraphGenerator.nodeNames(V), Paths.get(args[0]),
+                    tempDir, runEdges);
+            System.out.println("Runs: " + mst.runCount());
+            System.out.println("Connected: " + mst.isConnected());
+            System.out.println("MST cost: " + mst.weight());
+            System.out.println("Time: " + mst.executionTime() + " ms");
+            if (treeFile != null) {
+                try (EdgeFileWriter out = new EdgeFileWriter(treeFile)) {
+                    for (int i = 0; i < mst.treeSize; i++) {
+                        out.edge(mst.treeFrom[i], mst.treeTo[i], mst.treeWeight[i]);
+                    }
+                }
+                System.out.println("Tree edges written to " + treeFile);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("⚠️ Error solving edge file: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+import java.util.*;
+import java.util.stream.IntStream;
+
+public final class FilterKruskalMST extends AbstractSpanningTree {
+    // Ranges this small are sorted directly and fed to plain Kruskal
+    private static final int BASE_THRESHOLD = 32;
+    // Ranges at least this large are partitioned and filtered with parallel streams
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private long operationsCount;
+    private long sortNanos;
+    private long unionFindNanos;
+    private double executionTimeMs;
+
+    private CSRGraph G;
+    private EdgeList edgeList;
+    private int[] ids;
+    private DisjointSet uf;
+    private int[] treeFrom;
+    private boolean parallel;
+    private SplittableRandom random;
+
+    public FilterKruskalMST(Graph G) {
+        this(new CSRGraph(G), false);
+    }
+
+    public FilterKruskalMST(CSRGraph G) {
+        this(G, false);
+    }
+
+    public FilterKruskalMST(CSRGraph G, boolean parallel) {
+        long startTime = System.nanoTime();
+        this.mstEdges = new ArrayList<>();
+        this.totalCost = 0.0;
+        this.operationsCount = 0;
+        this.isConnected = true;
+
+        if (G.V() == 0) {
+            long endTime = System.nanoTime();
+            this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return;
+        }
+
+        long sortStart = System.nanoTime();
+        this.G = G;
+        this.edgeList = new EdgeList(G);
+        int m = edgeList.size();
+        operationsCount += m;
+
+        this.ids = IntStream.range(0, m).toArray();
+        this.uf = parallel ? new ConcurrentUnionFind(G.V()) : new UnionFind(G.V());
+        this.treeFrom = new int[G.V() - 1];
+        this.parallel = parallel;
+        this.random = new SplittableRandom(42);
+
+        filterKruskal(0, m);
+        // Everything outside the union-find passes is partitioning and sorting
+        this.sortNanos = System.nanoTime() - sortStart - unionFindNanos;
+        // Short of a spanning tree, every edge has been through Kruskal or a filter, and the
+        // partial tree is the minimum spanning forest
+        if (!isDone()) {
+            this.forest = new MinimumSpanningForest(G.V(), mstEdges, treeFrom, uf, operationsCount,
+                    sortNanos, unionFindNanos, (System.nanoTime() - startTime) / 1_000_000.0);
+        }
+        finish(isDone());
+
+        // Working state is only needed during construction
+        this.G = null;
+        this.edgeList = null;
+        this.ids = null;
+        this.uf = null;
+        this.treeFrom = null;
+
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+    }
+
+    private boolean isDone() {
+        return mstEdges.size() == G.V() - 1;
+    }
+
+    private void filterKruskal(int lo, int hi) {
+        if (isDone() || hi <= lo) return;
+
+        if (hi - lo <= BASE_THRESHOLD) {
+            insertionSort(lo, hi);
+            kruskal(lo, hi);
+            return;
+        }
+
+        // Three-way partition around a random pivot: [lo, lt) < p, [lt, gt) == p, [gt, hi) > p
+        double pivot = edgeList.weight(ids[lo + random.nextInt(hi - lo)]);
+        int[] bounds = parallel && hi - lo >= PARALLEL_THRESHOLD
+                ? parallelPartition(lo, hi, pivot)
+                : partition(lo, hi, pivot);
+        int lt = bounds[0];
+        int gt = bounds[1];
+        operationsCount += hi - lo;
+
+        // Light edges first, then the pivot class, which needs no sorting
+        filterKruskal(lo, lt);
+        kruskal(lt, gt);
+        if (isDone()) return;
+
+        // Heavy edges whose endpoints are already joined can never enter the tree
+        int newHi = parallel && hi - gt >= PARALLEL_THRESHOLD
+                ? parallelFilter(gt, hi)
+                : filter(gt, hi);
+        filterKruskal(gt, newHi);
+    }
+
+    private void kruskal(int lo, int hi) {
+        long start = System.nanoTime();
+        for (int k = lo; k < hi && !isDone(); k++) {
+            int e = ids[k];
+            int vIdx = edgeList.from(e);
+            int wIdx = edgeList.to(e);
+            operationsCount++;
+            operationsCount++;
+
+            if (!uf.connected(vIdx, wIdx)) {
+                uf.union(vIdx, wIdx);
+                treeFrom[mstEdges.size()] = vIdx;
+                mstEdges.add(new Edge(G.getNodeName(vIdx), G.getNodeName(wIdx), edgeList.weight(e)));
+                totalCost += edgeList.weight(e);
+                operationsCount++;
+            }
+        }
+        unionFindNanos += System.nanoTime() - start;
+    }
+
+    private int[] partition(int lo, int hi, double pivot) {
+        int lt = lo;
+        int gt = hi;
+        int k = lo;
+        while (k < gt) {
+            int cmp = Double.compare(edgeList.weight(ids[k]), pivot);
+            if (cmp < 0) swap(lt++, k++);
+            else if (cmp > 0) swap(k, --gt);
+            else k++;
+        }
+        return new int[]{lt, gt};
+    }
+
+    private int[] parallelPartition(int lo, int hi, double pivot) {
+        int[] light = IntStream.range(lo, hi).parallel().map(k -> ids[k])
+                .filter(e -> Double.compare(edgeList.weight(e), pivot) < 0).toArray();
+        int[] equal = IntStream.range(lo, hi).parallel().map(k -> ids[k])
+                .filter(e -> Double.compare(edgeList.weight(e), pivot) == 0).toArray();
+        int[] heavy = IntStream.range(lo, hi).parallel().map(k -> ids[k])
+                .filter(e -> Double.compare(edgeList.weight(e), pivot) > 0).toArray();
+        System.arraycopy(light, 0, ids, lo, light.length);
+        System.arraycopy(equal, 0, ids, lo + light.length, equal.length);
+        System.arraycopy(heavy, 0, ids, lo + light.length + equal.length, heavy.length);
+        return new int[]{lo + light.length, lo + light.length + equal.length};
+    }
+
+    private int filter(int lo, int hi) {
+        long start = System.nanoTime();
+        int next = lo;
+        for (int k = lo; k < hi; k++) {
+            int e = ids[k];
+            if (!uf.connected(edgeList.from(e), edgeList.to(e))) {
+                ids[next++] = e;
+            }
+        }
+        operationsCount += 2L * (hi - lo);
+        unionFindNanos += System.nanoTime() - start;
+        return next;
+    }
+
+    private int parallelFilter(int lo, int hi) {
+        long start = System.nanoTime();
+        int[] kept = IntStream.range(lo, hi).parallel().map(k -> ids[k])
+                .filter(e -> !uf.connected(edgeList.from(e), edgeList.to(e))).toArray();
+        System.arraycopy(kept, 0, ids, lo, kept.length);
+        operationsCount += 2L * (hi - lo);
+        unionFindNanos += System.nanoTime() - start;
+        return lo + kept.length;
+    }
+
+    private void insertionSort(int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int e = ids[i];
+            int j = i;
+            while (j > lo && Double.compare(edgeList.weight(ids[j - 1]), edgeList.weight(e)) > 0) {
+                ids[j] = ids[j - 1];
+                j--;
+                operationsCount++;
+            }
+            ids[j] = e;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int tmp = ids[i];
+        ids[i] = ids[j];
+        ids[j] = tmp;
+    }
+
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    public long phaseTime(SolverMetrics.Phase phase) {
+        switch (phase) {
+            case SORT: return sortNanos;
+            case UNION_FIND: return unionFindNanos;
+            default: return 0;
+        }
+    }
+
+    public double executionTime() {
+        return executionTimeMs;
+    }
+}
@@ -1,4 +1,6 @@
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Graph {
     private final Map<String, Integer> nodeToIndex;
@@ -6,6 +8,19 @@ public class Graph {
     private final int V;
     private int E;
     private final List<Edge>[] adj;
+    // Canonical edge array in insertion order, self-loops excluded, with the
+    // endpoint indices and weights alongside for primitive iteration
+    private Edge[] edgeArray;
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private double[] edgeWeight;
+    private int edgeCount;
+    // Position of each edge in the arrays, built on the first removal
+    private Map<Edge, Integer> edgePosition;
+    private final EdgeView edgeView = new EdgeView();
+    // Cached BFS result, null when unknown; adding edges keeps a connected graph
+    // connected and removing edges keeps a disconnected one disconnected
+    private Boolean connected;
 
     @SuppressWarnings("unchecked")
     public Graph(List<String> nodes) {
@@ -14,6 +29,10 @@ public class Graph {
         this.nodeToIndex = new HashMap<>();
         this.indexToNode = new HashMap<>();
         this.adj = (List<Edge>[]) new ArrayList[V];
+        this.edgeArray = new Edge[16];
+        this.edgeFrom = new int[16];
+        this.edgeTo = new int[16];
+        this.edgeWeight = new double[16];
 
         for (int i = 0; i < V; i++) {
             adj[i] = new ArrayList<>();
@@ -44,6 +63,79 @@ public class Graph {
         adj[vIndex].add(e);
         adj[wIndex].add(e);
         E++;
+        if (Boolean.FALSE.equals(connected)) connected = null;
+
+        if (vIndex == wIndex) return;
+        if (edgeCount == edgeArray.length) {
+            int capacity = edgeCount + (edgeCount >> 1);
+            edgeArray = Arrays.copyOf(edgeArray, capacity);
+            edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+            edgeTo = Arrays.copyOf(edgeTo, capacity);
+            edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+        }
+        if (edgePosition != null) edgePosition.put(e, edgeCount);
+        edgeArray[edgeCount] = e;
+        edgeFrom[edgeCount] = vIndex;
+        edgeTo[edgeCount] = wIndex;
+        edgeWeight[edgeCount] = e.weight();
+        edgeCount++;
+    }
+
+    // Removes this exact Edge object, as added by addEdge
+    public void removeEdge(Edge e) {
+        String v = e.either();
+        String w = e.other(v);
+
+        if (!nodeToIndex.containsKey(v) || !nodeToIndex.containsKey(w)) {
+            throw new IllegalArgumentException("Vertex not in graph");
+        }
+
+        int vIndex = nodeToIndex.get(v);
+        int wIndex = nodeToIndex.get(w);
+
+        // Looked up before anything changes, so a failed removal leaves the graph as it was
+        Integer position = null;
+        if (vIndex != wIndex) {
+            if (edgePosition == null) {
+                edgePosition = new IdentityHashMap<>(2 * edgeCount);
+                for (int i = 0; i < edgeCount; i++) {
+                    edgePosition.put(edgeArray[i], i);
+                }
+            }
+            position = edgePosition.remove(e);
+            if (position == null) throw new IllegalArgumentException("Edge not in graph");
+        }
+
+        if (!removeFrom(adj[vIndex], e) || !removeFrom(adj[wIndex], e)) {
+            throw new IllegalArgumentException("Edge not in graph");
+        }
+        E--;
+        if (Boolean.TRUE.equals(connected)) connected = null;
+
+        if (position == null) return;
+        // Swap-remove: the last edge takes the removed edge's slot
+        int i = position;
+        int last = --edgeCount;
+        if (i != last) {
+            edgeArray[i] = edgeArray[last];
+            edgeFrom[i] = edgeFrom[last];
+            edgeTo[i] = edgeTo[last];
+            edgeWeight[i] = edgeWeight[last];
+            edgePosition.put(edgeArray[i], i);
+        }
+        edgeArray[last] = null;
+    }
+
+    private static boolean removeFrom(List<Edge> list, Edge e) {
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if (list.get(i) == e) {
+                // Order within an adjacency list does not matter
+                list.set(i, list.get(list.size() - 1));
+                list.remove(list.size() - 1);
+                return true;
+            }
+        }
+        return false;
     }
 
     public Iterable<Edge> adj(String v) {
@@ -53,16 +145,41 @@ public class Graph {
         return adj[nodeToIndex.get(v)];
     }
 
-    public Iterable<Edge> edges() {
-        List<Edge> list = new ArrayList<>();
-        for (int v = 0; v < V; v++) {
-            for (Edge e : adj[v]) {
-                if (nodeToIndex.get(e.other(indexToNode.get(v))) > v) {
-                    list.add(e);
-                }
-            }
+    // Read-only view of the canonical edge array; nothing is copied
+    public List<Edge> edges() {
+        return edgeView;
+    }
+
+    public Stream<Edge> edgeStream() {
+        return StreamSupport.stream(edgeView.spliterator(), false);
+    }
+
+    // Every edge once as (from index, to index, weight), without touching Edge objects
+    public void forEachEdge(IntIntDoubleConsumer action) {
+        for (int i = 0; i < edgeCount; i++) {
+            action.accept(edgeFrom[i], edgeTo[i], edgeWeight[i]);
+        }
+    }
+
+    private class EdgeView extends AbstractList<Edge> implements RandomAccess {
+        @Override
+        public Edge get(int index) {
+            Objects.checkIndex(index, edgeCount);
+            return edgeArray[index];
+        }
+
+        @Override
+        public int size() {
+            return edgeCount;
+        }
+
+        // Array-backed, so it splits evenly for parallel streams; SIZED and SUBSIZED come with
+        // the array. The view is live, not IMMUTABLE: a spliterator covers the edges present when
+        // it was made, so the graph must not change while one is being traversed
+        @Override
+        public Spliterator<Edge> spliterator() {
+            return Spliterators.spliterator(edgeArray, 0, edgeCount, Spliterator.ORDERED | Spliterator.NONNULL);
         }
-        return list;
     }
 
     public String getNodeName(int index) {
@@ -74,27 +191,33 @@ public class Graph {
     }
 
     public boolean isConnected() {
+        if (connected == null) connected = computeConnected();
+        return connected;
+    }
+
+    private boolean computeConnected() {
         if (V == 0) return true;
 
         boolean[] visited = new boolean[V];
-        Queue<Integer> queue = new LinkedList<>();
-        queue.add(0);
+        int[] queue = new int[V];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = 0;
         visited[0] = true;
-        int count = 1;
 
-        while (!queue.isEmpty()) {
-            int v = queue.poll();
+        while (head < tail) {
+            int v = queue[head++];
+            String name = indexToNode.get(v);
             for (Edge e : adj[v]) {
-                int w = nodeToIndex.get(e.other(indexToNode.get(v)));
+                int w = nodeToIndex.get(e.other(name));
                 if (!visited[w]) {
                     visited[w] = true;
-                    queue.add(w);
-                    count++;
+                    queue[tail++] = w;
                 }
             }
         }
 
-        return count == V;
+        return tail == V;
     }
 
     @Override
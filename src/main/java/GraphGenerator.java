@@ -0,0 +1,313 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// Seedable synthetic graphs, streamed edge by edge into an EdgeSink.
+// Vertices are 0..V-1, named V0..V<V-1>; weights are integers in [1, MAX_WEIGHT].
+public class GraphGenerator {
+    public static final int MAX_WEIGHT = 1000;
+
+    public enum Model {
+        ERDOS_RENYI,      // param: edge probability p
+        GEOMETRIC,        // param: connection radius in the unit square
+        GRID,             // param: columns, 0 for a square grid
+        BARABASI_ALBERT,  // param: edges per new vertex
+        COMPLETE;         // param: ignored
+
+        // Models that are connected without a backbone
+        boolean alwaysConnected() {
+            return this == GRID || this == BARABASI_ALBERT || this == COMPLETE;
+        }
+
+        public static Model parse(String name) {
+            switch (name.toLowerCase()) {
+                case "er": case "erdos-renyi": case "random": return ERDOS_RENYI;
+                case "geometric": case "rgg": return GEOMETRIC;
+                case "grid": case "road": return GRID;
+                case "ba": case "barabasi-albert": case "power-law": return BARABASI_ALBERT;
+                case "complete": return COMPLETE;
+                default: throw new IllegalArgumentException("Unknown graph model: " + name);
+            }
+        }
+    }
+
+    private final SplittableRandom random;
+    private final boolean connected;
+
+    public GraphGenerator(long seed) {
+        this(seed, false);
+    }
+
+    // With connected set, ER and geometric graphs get a random spanning tree first
+    public GraphGenerator(long seed, boolean connected) {
+        this.random = new SplittableRandom(seed);
+        this.connected = connected;
+    }
+
+    public void generate(Model model, int V, double param, EdgeSink sink) throws IOException {
+        if (V < 0) throw new IllegalArgumentException("Negative vertex count");
+        if (connected && !model.alwaysConnected()) {
+            backbone(V, sink);
+        }
+        switch (model) {
+            case ERDOS_RENYI:
+                erdosRenyi(V, param, sink);
+                break;
+            case GEOMETRIC:
+                geometric(V, param, sink);
+                break;
+            case GRID:
+                grid(V, (int) param, sink);
+                break;
+            case BARABASI_ALBERT:
+                barabasiAlbert(V, (int) param, sink);
+                break;
+            case COMPLETE:
+                complete(V, sink);
+                break;
+        }
+    }
+
+    public Graph toGraph(Model model, int V, double param) {
+        Graph graph = new Graph(nodeNames(V));
+        try {
+            generate(model, V, param, (v, w, weight) ->
+                    graph.addEdge(new Edge(nodeName(v), nodeName(w), weight)));
+        } catch (IOException e) {
+            // In-memory sinks never throw
+            throw new UncheckedIOException(e);
+        }
+        return graph;
+    }
+
+    public EdgeList toEdgeList(Model model, int V, double param) {
+        EdgeList edges = new EdgeList(V, 0);
+        try {
+            generate(model, V, param, edges::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return edges;
+    }
+
+    // Random recursive tree: vertex v hangs off a uniform earlier vertex
+    private void backbone(int V, EdgeSink sink) throws IOException {
+        for (int v = 1; v < V; v++) {
+            sink.edge(random.nextInt(v), v, weight());
+        }
+    }
+
+    // G(n, p) in O(V + E) by skipping geometrically over absent pairs (Batagelj & Brandes)
+    public void erdosRenyi(int V, double p, EdgeSink sink) throws IOException {
+        if (p < 0 || p > 1) throw new IllegalArgumentException("Edge probability must be in [0, 1]");
+        if (p == 0) return;
+        if (p == 1) {
+            complete(V, sink);
+            return;
+        }
+        double logQ = Math.log(1 - p);
+        int v = 1;
+        long w = -1;
+        while (v < V) {
+            double r = random.nextDouble();
+            w += 1 + (long) Math.floor(Math.log(1 - r) / logQ);
+            while (w >= v && v < V) {
+                w -= v;
+                v++;
+            }
+            if (v < V) {
+                sink.edge((int) w, v, weight());
+            }
+        }
+    }
+
+    // Uniform points in the unit square joined when closer than radius; weight grows with distance
+    public void geometric(int V, double radius, EdgeSink sink) throws IOException {
+        if (radius <= 0) throw new IllegalArgumentException("Radius must be positive");
+        double[] x = new double[V];
+        double[] y = new double[V];
+        for (int v = 0; v < V; v++) {
+            x[v] = random.nextDouble();
+            y[v] = random.nextDouble();
+        }
+
+        // Bucket points into cells at least radius wide, so neighbours are in adjacent cells
+        int side = (int) Math.max(1, Math.min(Math.floor(1 / radius), Math.ceil(Math.sqrt(V))));
+        int[] cell = new int[V];
+        int[] start = new int[side * side + 1];
+        for (int v = 0; v < V; v++) {
+            cell[v] = cellOf(x[v], side) * side + cellOf(y[v], side);
+            start[cell[v] + 1]++;
+        }
+        for (int c = 0; c < side * side; c++) {
+            start[c + 1] += start[c];
+        }
+        int[] next = Arrays.copyOf(start, side * side);
+        int[] points = new int[V];
+        for (int v = 0; v < V; v++) {
+            points[next[cell[v]]++] = v;
+        }
+
+        double r2 = radius * radius;
+        for (int v = 0; v < V; v++) {
+            int cx = cell[v] / side;
+            int cy = cell[v] % side;
+            for (int i = Math.max(0, cx - 1); i <= Math.min(side - 1, cx + 1); i++) {
+                for (int j = Math.max(0, cy - 1); j <= Math.min(side - 1, cy + 1); j++) {
+                    int c = i * side + j;
+                    for (int k = start[c]; k < start[c + 1]; k++) {
+                        int w = points[k];
+                        if (w <= v) continue;
+                        double dx = x[v] - x[w];
+                        double dy = y[v] - y[w];
+                        double d2 = dx * dx + dy * dy;
+                        if (d2 <= r2) {
+                            sink.edge(v, w, 1 + Math.round(Math.sqrt(d2) / radius * (MAX_WEIGHT - 1)));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int cellOf(double coordinate, int side) {
+        return Math.min(side - 1, (int) (coordinate * side));
+    }
+
+    // Road-like lattice, row by row; the last row may be partial
+    public void grid(int V, int columns, EdgeSink sink) throws IOException {
+        if (columns <= 0) columns = Math.max(1, (int) Math.ceil(Math.sqrt(V)));
+        for (int v = 0; v < V; v++) {
+            if ((v + 1) % columns != 0 && v + 1 < V) sink.edge(v, v + 1, weight());
+            if (v + columns < V) sink.edge(v, v + columns, weight());
+        }
+    }
+
+    // Preferential attachment from an (m + 1)-clique; each new vertex adds m distinct edges
+    public void barabasiAlbert(int V, int m, EdgeSink sink) throws IOException {
+        if (m < 1) throw new IllegalArgumentException("Edges per vertex must be positive");
+        int seedSize = Math.min(V, m + 1);
+        long E = (long) seedSize * (seedSize - 1) / 2 + (long) m * Math.max(0, V - seedSize);
+        if (2 * E > Integer.MAX_VALUE) throw new IllegalArgumentException("Graph too large");
+
+        // Every endpoint is listed once per incident edge, so a uniform pick is degree-proportional
+        int[] endpoints = new int[(int) (2 * E)];
+        int size = 0;
+        for (int v = 0; v < seedSize; v++) {
+            for (int w = v + 1; w < seedSize; w++) {
+                sink.edge(v, w, weight());
+                endpoints[size++] = v;
+                endpoints[size++] = w;
+            }
+        }
+
+        int[] targets = new int[m];
+        for (int v = seedSize; v < V; v++) {
+            int chosen = 0;
+            while (chosen < m) {
+                int w = endpoints[random.nextInt(size)];
+                boolean duplicate = false;
+                for (int k = 0; k < chosen && !duplicate; k++) {
+                    duplicate = targets[k] == w;
+                }
+                if (!duplicate) targets[chosen++] = w;
+            }
+            for (int k = 0; k < m; k++) {
+                sink.edge(v, targets[k], weight());
+                endpoints[size++] = v;
+                endpoints[size++] = targets[k];
+            }
+        }
+    }
+
+    public void complete(int V, EdgeSink sink) throws IOException {
+        for (int v = 0; v < V; v++) {
+            for (int w = v + 1; w < V; w++) {
+                sink.edge(v, w, weight());
+            }
+        }
+    }
+
+    private double weight() {
+        return 1 + random.nextInt(MAX_WEIGHT);
+    }
+
+    public static String nodeName(int v) {
+        return "V" + v;
+    }
+
+    // Names are built on access, nothing is stored per vertex
+    public static List<String> nodeNames(int V) {
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                Objects.checkIndex(index, V);
+                return nodeName(index);
+            }
+
+            @Override
+            public int size() {
+                return V;
+            }
+        };
+    }
+
+    // Writes graphs 1..count of one model straight to a solver input file
+    public static void writeJson(Model model, int V, double param, int count, long seed,
+                                 boolean connected, File file) throws IOException {
+        GraphGenerator generator = new GraphGenerator(seed, connected);
+        try (JsonGraphWriter writer = new JsonGraphWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            for (int id = 1; id <= count; id++) {
+                writer.beginGraph(id, nodeNames(V));
+                generator.generate(model, V, param, writer);
+                writer.endGraph();
+            }
+        }
+    }
+
+    // Writes one graph as a flat binary edge file, e.g. for ExternalKruskalMST
+    public static long writeEdgeFile(Model model, int V, double param, long seed, boolean connected,
+                                     java.nio.file.Path path) throws IOException {
+        try (EdgeFileWriter writer = new EdgeFileWriter(path)) {
+            new GraphGenerator(seed, connected).generate(model, V, param, writer);
+            return writer.count();
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 4) {
+            System.err.println("Usage: GraphGenerator <er|geometric|grid|ba|complete> <vertices> <param>"
+                    + " <output.json|output" + EdgeFileWriter.EXTENSION + "> [--seed=N] [--graphs=N] [--connected]");
+            return;
+        }
+        long seed = 42;
+        int count = 1;
+        boolean connected = false;
+        for (int i = 4; i < args.length; i++) {
+            if (args[i].startsWith("--seed=")) {
+                seed = Long.parseLong(args[i].substring("--seed=".length()));
+            } else if (args[i].startsWith("--graphs=")) {
+                count = Integer.parseInt(args[i].substring("--graphs=".length()));
+            } else if (args[i].equals("--connected")) {
+                connected = true;
+            }
+        }
+
+        try {
+            Model model = Model.parse(args[0]);
+            if (args[3].endsWith(EdgeFileWriter.EXTENSION)) {
+                long edges = writeEdgeFile(model, Integer.parseInt(args[1]), Double.parseDouble(args[2]), seed,
+                        connected, java.nio.file.Paths.get(args[3]));
+                System.out.println("Wrote " + edges + " " + model + " edges to " + args[3]);
+                return;
+            }
+            writeJson(model, Integer.parseInt(args[1]), Double.parseDouble(args[2]), count, seed, connected,
+                    new File(args[3]));
+            System.out.println("Wrote " + count + " " + model + " graph(s) to " + args[3]);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("⚠️ Error generating graphs: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+import java.util.NoSuchElementException;
+
+public class IndexMinPQ {
+    private final int d;
+    private final int[] pq;   // heap position -> index
+    private final int[] qp;   // index -> heap position, -1 if absent
+    private final double[] keys;
+    private int n;
+
+    public IndexMinPQ(int capacity) {
+        this(capacity, 2);
+    }
+
+    public IndexMinPQ(int capacity, int arity) {
+        if (capacity < 0) throw new IllegalArgumentException();
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2");
+        this.d = arity;
+        this.pq = new int[capacity];
+        this.qp = new int[capacity];
+        this.keys = new double[capacity];
+        this.n = 0;
+        for (int i = 0; i < capacity; i++) {
+            qp[i] = -1;
+        }
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public boolean contains(int i) {
+        validate(i);
+        return qp[i] != -1;
+    }
+
+    public double keyOf(int i) {
+        if (!contains(i)) throw new NoSuchElementException("index is not in the priority queue");
+        return keys[i];
+    }
+
+    public void insert(int i, double key) {
+        if (contains(i)) throw new IllegalArgumentException("index is already in the priority queue");
+        pq[n] = i;
+        qp[i] = n;
+        keys[i] = key;
+        swim(n++);
+    }
+
+    public void decreaseKey(int i, double key) {
+        if (!contains(i)) throw new NoSuchElementException("index is not in the priority queue");
+        if (Double.compare(key, keys[i]) > 0) {
+            throw new IllegalArgumentException("Calling decreaseKey() with a larger key");
+        }
+        keys[i] = key;
+        swim(qp[i]);
+    }
+
+    public double minKey() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        return keys[pq[0]];
+    }
+
+    public int delMin() {
+        if (n == 0) throw new NoSuchElementException("Priority queue underflow");
+        int min = pq[0];
+        int last = pq[--n];
+        qp[min] = -1;
+        if (n > 0) {
+            pq[0] = last;
+            qp[last] = 0;
+            sink(0);
+        }
+        return min;
+    }
+
+    // Hole-based sift: move parents down and write the index once
+    private void swim(int k) {
+        int i = pq[k];
+        double key = keys[i];
+        while (k > 0) {
+            int parent = (k - 1) / d;
+            int p = pq[parent];
+            if (Double.compare(keys[p], key) <= 0) break;
+            pq[k] = p;
+            qp[p] = k;
+            k = parent;
+        }
+        pq[k] = i;
+        qp[i] = k;
+    }
+
+    private void sink(int k) {
+        int i = pq[k];
+        double key = keys[i];
+        while (true) {
+            int first = d * k + 1;
+            if (first >= n) break;
+            int last = Math.min(first + d, n);
+            int child = first;
+            for (int c = first + 1; c < last; c++) {
+                if (Double.compare(keys[pq[c]], keys[pq[child]]) < 0) child = c;
+            }
+            int ci = pq[child];
+            if (Double.compare(keys[ci], key) >= 0) break;
+            pq[k] = ci;
+            qp[ci] = k;
+            k = child;
+        }
+        pq[k] = i;
+        qp[i] = k;
+    }
+
+    private void validate(int i) {
+        if (i < 0 || i >= qp.length) {
+            throw new IllegalArgumentException("index " + i + " is not between 0 and " + (qp.length - 1));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+@FunctionalInterface
+public interface IntIntDoubleConsumer {
+    void accept(int v, int w, double weight);
+}
@@ -0,0 +1,343 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Single-pass pull parser for the solver input: {"graphs": [{"id", "nodes", "edges"}, ...]}
+// A graph may give "points": [[x, y], ...] or [[x, y, z], ...] instead of edges, meaning
+// the complete graph weighted by Euclidean distance
+public class JsonGraphReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder scratch = new StringBuilder();
+    private int position;
+    private int limit;
+    private long consumed;
+    private boolean inGraphs;
+    private boolean finished;
+
+    public JsonGraphReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public JsonGraphReader(InputStream in) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    // Returns the next graph of the "graphs" array, or null once it is exhausted
+    public MSTSolver.GraphData nextGraph() throws IOException {
+        if (finished) return null;
+
+        if (!inGraphs) {
+            if (!seekGraphsArray()) {
+                finished = true;
+                return null;
+            }
+            inGraphs = true;
+        } else {
+            int c = peek();
+            if (c == ',') {
+                read();
+            } else if (c == ']') {
+                read();
+                finished = true;
+                return null;
+            } else {
+                throw error("Expected ',' or ']' in graphs array");
+            }
+        }
+
+        if (peek() == ']') {
+            read();
+            finished = true;
+            return null;
+        }
+        return readGraph();
+    }
+
+    // Walks the top-level object up to the opening bracket of "graphs"
+    private boolean seekGraphsArray() throws IOException {
+        expect('{');
+        if (peek() == '}') return false;
+        while (true) {
+            String key = readString();
+            expect(':');
+            if (key.equals("graphs")) {
+                expect('[');
+                return true;
+            }
+            skipValue();
+            int c = read();
+            if (c == '}') return false;
+            if (c != ',') throw error("Expected ',' or '}' in object");
+        }
+    }
+
+    private MSTSolver.GraphData readGraph() throws IOException {
+        MSTSolver.GraphData graph = new MSTSolver.GraphData();
+        expect('{');
+        if (peek() == '}') {
+            read();
+            return graph;
+        }
+        while (true) {
+            String key = readString();
+            expect(':');
+            switch (key) {
+                case "id":
+                    graph.id = (int) readNumber();
+                    break;
+                case "nodes":
+                    readNodes(graph);
+                    break;
+                case "edges":
+                    readEdges(graph);
+                    break;
+                case "points":
+                    readPoints(graph);
+                    break;
+                default:
+                    skipValue();
+            }
+            int c = read();
+            if (c == '}') return graph;
+            if (c != ',') throw error("Expected ',' or '}' in graph object");
+        }
+    }
+
+    private void readNodes(MSTSolver.GraphData graph) throws IOException {
+        expect('[');
+        if (peek() == ']') {
+            read();
+            return;
+        }
+        while (true) {
+            String node = readString();
+            if (!node.isEmpty()) graph.nodes.add(node);
+            int c = read();
+            if (c == ']') return;
+            if (c != ',') throw error("Expected ',' or ']' in nodes array");
+        }
+    }
+
+    private void readEdges(MSTSolver.GraphData graph) throws IOException {
+        expect('[');
+        if (peek() == ']') {
+            read();
+            return;
+        }
+        while (true) {
+            graph.edges.add(readEdge());
+            int c = read();
+            if (c == ']') return;
+            if (c != ',') throw error("Expected ',' or ']' in edges array");
+        }
+    }
+
+    // Coordinates are stored flat, point i at [i * dimension, (i + 1) * dimension)
+    private void readPoints(MSTSolver.GraphData graph) throws IOException {
+        double[] coordinates = new double[48];
+        int size = 0;
+        int dimension = 0;
+        expect('[');
+        if (peek() == ']') {
+            read();
+        } else {
+            while (true) {
+                expect('[');
+                int start = size;
+                while (true) {
+                    if (size == coordinates.length) coordinates = Arrays.copyOf(coordinates, 2 * size);
+                    coordinates[size++] = readNumber();
+                    int c = read();
+                    if (c == ']') break;
+                    if (c != ',') throw error("Expected ',' or ']' in point");
+                }
+                if (dimension == 0) dimension = size - start;
+                if (size - start != dimension) throw error("Points must all have " + dimension + " coordinates");
+                int c = read();
+                if (c == ']') break;
+                if (c != ',') throw error("Expected ',' or ']' in points array");
+            }
+        }
+        graph.points = Arrays.copyOf(coordinates, size);
+        graph.dimension = dimension;
+    }
+
+    private MSTSolver.EdgeData readEdge() throws IOException {
+        MSTSolver.EdgeData edge = new MSTSolver.EdgeData();
+        edge.from = "";
+        edge.to = "";
+        expect('{');
+        if (peek() == '}') {
+            read();
+            return edge;
+        }
+        while (true) {
+            String key = readString();
+            expect(':');
+            switch (key) {
+                case "from":
+                    edge.from = readString();
+                    break;
+                case "to":
+                    edge.to = readString();
+                    break;
+                case "weight":
+                    edge.weight = readNumber();
+                    break;
+                default:
+                    skipValue();
+            }
+            int c = read();
+            if (c == '}') return edge;
+            if (c != ',') throw error("Expected ',' or '}' in edge object");
+        }
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        scratch.setLength(0);
+        while (true) {
+            int c = readRaw();
+            if (c == '"') return scratch.toString();
+            if (c == '\\') {
+                int escaped = readRaw();
+                switch (escaped) {
+                    case '"': case '\\': case '/': scratch.append((char) escaped); break;
+                    case 'b': scratch.append('\b'); break;
+                    case 'f': scratch.append('\f'); break;
+                    case 'n': scratch.append('\n'); break;
+                    case 'r': scratch.append('\r'); break;
+                    case 't': scratch.append('\t'); break;
+                    case 'u':
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(readRaw(), 16);
+                            if (digit < 0) throw error("Invalid \\u escape");
+                            code = code * 16 + digit;
+                        }
+                        scratch.append((char) code);
+                        break;
+                    default:
+                        throw error("Invalid escape sequence");
+                }
+            } else {
+                scratch.append((char) c);
+            }
+        }
+    }
+
+    // Plain integers, the common case in our inputs, are parsed without a String
+    private double readNumber() throws IOException {
+        peek();
+        scratch.setLength(0);
+        boolean integral = true;
+        long value = 0;
+        boolean negative = false;
+        while (true) {
+            int c = peekRaw();
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (scratch.length() > 17) integral = false;
+            } else if (c == '-' && scratch.length() == 0) {
+                negative = true;
+            } else if (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                integral = false;
+            } else {
+                break;
+            }
+            scratch.append((char) c);
+            position++;
+        }
+        if (scratch.length() == 0 || (negative && scratch.length() == 1)) throw error("Expected a number");
+        if (integral) return negative ? -value : value;
+        try {
+            return Double.parseDouble(scratch.toString());
+        } catch (NumberFormatException e) {
+            throw error("Invalid number " + scratch);
+        }
+    }
+
+    private void skipValue() throws IOException {
+        int c = peek();
+        if (c == '"') {
+            readString();
+        } else if (c == '{' || c == '[') {
+            int depth = 0;
+            do {
+                c = peek();
+                if (c == '"') {
+                    readString();
+                    continue;
+                }
+                read();
+                if (c == '{' || c == '[') depth++;
+                else if (c == '}' || c == ']') depth--;
+            } while (depth > 0);
+        } else if (c == '-' || (c >= '0' && c <= '9')) {
+            readNumber();
+        } else {
+            // true, false or null
+            while (Character.isLetter(peekRaw())) {
+                position++;
+            }
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        if (read() != expected) throw error("Expected '" + expected + "'");
+    }
+
+    // Next non-whitespace character without consuming it
+    private int peek() throws IOException {
+        while (true) {
+            int c = peekRaw();
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                position++;
+            } else {
+                return c;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c == -1) throw error("Unexpected end of input");
+        position++;
+        return c;
+    }
+
+    private int peekRaw() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position];
+    }
+
+    private int readRaw() throws IOException {
+        int c = peekRaw();
+        if (c == -1) throw error("Unexpected end of input");
+        position++;
+        return c;
+    }
+
+    private boolean fill() throws IOException {
+        consumed += limit;
+        position = 0;
+        limit = reader.read(buffer, 0, buffer.length);
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " at offset " + (consumed + position));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
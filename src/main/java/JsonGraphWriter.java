@@ -0,0 +1,77 @@
+import java.io.*;
+import java.util.List;
+
+// Streams graphs in the solver input format, one edge at a time
+public class JsonGraphWriter implements EdgeSink, Closeable {
+    private final Writer out;
+    private List<String> nodes;
+    private int graphs;
+    private long edges;
+
+    public JsonGraphWriter(Writer out) throws IOException {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out, 1 << 16);
+        this.out.write("{\n  \"graphs\": [");
+    }
+
+    public void beginGraph(int id, List<String> nodes) throws IOException {
+        if (this.nodes != null) throw new IllegalStateException("Previous graph not ended");
+        this.nodes = nodes;
+        this.edges = 0;
+        if (graphs++ > 0) out.write(',');
+        out.write("\n    {\n      \"id\": ");
+        out.write(Integer.toString(id));
+        out.write(",\n      \"nodes\": [");
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i > 0) out.write(", ");
+            string(nodes.get(i));
+        }
+        out.write("],\n      \"edges\": [");
+    }
+
+    @Override
+    public void edge(int v, int w, double weight) throws IOException {
+        if (nodes == null) throw new IllegalStateException("No graph started");
+        if (edges++ > 0) out.write(',');
+        out.write("\n        {\"from\": ");
+        string(nodes.get(v));
+        out.write(", \"to\": ");
+        string(nodes.get(w));
+        out.write(", \"weight\": ");
+        // Integral weights are written like the hand-written inputs, without ".0"
+        if (weight == Math.rint(weight) && Math.abs(weight) < 1L << 53) {
+            out.write(Long.toString((long) weight));
+        } else {
+            out.write(Double.toString(weight));
+        }
+        out.write('}');
+    }
+
+    public void endGraph() throws IOException {
+        if (nodes == null) throw new IllegalStateException("No graph started");
+        out.write(edges > 0 ? "\n      ]\n    }" : "]\n    }");
+        nodes = null;
+    }
+
+    private void string(String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.write(String.format("\\u%04x", (int) c));
+            } else {
+                out.write(c);
+            }
+        }
+        out.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (nodes != null) endGraph();
+        out.write(graphs > 0 ? "\n  ]\n}\n" : "]\n}\n");
+        out.close();
+    }
+}
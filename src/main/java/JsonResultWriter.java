@@ -0,0 +1,213 @@
+import java.io.*;
+import java.util.List;
+
+// Writes results one at a time, either as the pretty "results" document or as NDJSON
+public class JsonResultWriter implements Closeable {
+    private static final int FLUSH_THRESHOLD = 1 << 13;
+
+    private final Writer out;
+    private final boolean ndjson;
+    private final StringBuilder buffer = new StringBuilder(2 * FLUSH_THRESHOLD);
+    private char[] chunk = new char[2 * FLUSH_THRESHOLD];
+    private int count;
+
+    public JsonResultWriter(Writer out, boolean ndjson) {
+        this.out = out;
+        this.ndjson = ndjson;
+        if (!ndjson) {
+            buffer.append("{\n  \"results\": [");
+        }
+    }
+
+    public void write(MSTSolver.ResultData result) throws IOException {
+        if (!ndjson) {
+            if (count > 0) buffer.append(',');
+            buffer.append("\n    ");
+        }
+        buffer.append('{');
+        newline(6);
+        key("graph_id").append(result.graphId).append(',');
+        newline(6);
+        key("input_stats").append('{');
+        newline(8);
+        key("vertices").append(result.vertices).append(',');
+        newline(8);
+        key("edges").append(result.totalEdges);
+        newline(6);
+        buffer.append("},");
+
+        if (result.algorithm != null) {
+            writeSingleResult(result);
+        } else {
+            newline(6);
+            key("prim").append('{');
+            writeAlgorithmResult(result.primEdges, result.primCost, result.primOps, result.primTime);
+            newline(6);
+            buffer.append("},");
+
+            newline(6);
+            key("kruskal").append('{');
+            writeAlgorithmResult(result.kruskalEdges, result.kruskalCost, result.kruskalOps, result.kruskalTime);
+            newline(6);
+            buffer.append('}');
+        }
+        if (result.forest != null) {
+            buffer.append(',');
+            writeForest(result.forest);
+        }
+
+        newline(4);
+        buffer.append('}');
+        if (ndjson) buffer.append('\n');
+        count++;
+        flushIfNeeded();
+    }
+
+    private void writeSingleResult(MSTSolver.ResultData result) throws IOException {
+        newline(6);
+        key("mst").append('{');
+        newline(8);
+        key("algorithm");
+        string(result.algorithm);
+        buffer.append(',');
+        writeAlgorithmResult(result.mstEdges, result.mstCost, result.mstOps, result.mstTime);
+        newline(6);
+        buffer.append('}');
+
+        if (result.crossCheckAlgorithm != null) {
+            buffer.append(',');
+            newline(6);
+            key("cross_check").append('{');
+            newline(8);
+            key("algorithm");
+            string(result.crossCheckAlgorithm);
+            buffer.append(',');
+            newline(8);
+            key("total_cost").append(Math.round(result.crossCheckCost * 100.0) / 100.0).append(',');
+            newline(8);
+            key("costs_match").append(result.crossCheckMatches());
+            newline(6);
+            buffer.append('}');
+        }
+    }
+
+    private void writeForest(MinimumSpanningForest forest) throws IOException {
+        newline(6);
+        key("forest").append('{');
+        newline(8);
+        key("components").append(forest.componentCount()).append(',');
+        newline(8);
+        key("total_cost").append(Math.round(forest.weight() * 100.0) / 100.0).append(',');
+        newline(8);
+        key("trees").append('[');
+        for (int c = 0; c < forest.componentCount(); c++) {
+            newline(10);
+            buffer.append('{');
+            newline(12);
+            key("component").append(c).append(',');
+            newline(12);
+            key("vertices").append(forest.componentSize(c)).append(',');
+            newline(12);
+            key("total_cost").append(Math.round(forest.componentWeight(c) * 100.0) / 100.0).append(',');
+            newline(12);
+            key("mst_edges").append('[');
+            List<Edge> edges = forest.componentEdges(c);
+            for (int i = 0; i < edges.size(); i++) {
+                newline(14);
+                edge(edges.get(i));
+                if (i < edges.size() - 1) buffer.append(',');
+                flushIfNeeded();
+            }
+            newline(12);
+            buffer.append(']');
+            newline(10);
+            buffer.append('}');
+            if (c < forest.componentCount() - 1) buffer.append(',');
+        }
+        newline(8);
+        buffer.append(']');
+        newline(6);
+        buffer.append('}');
+    }
+
+    private void edge(Edge e) {
+        buffer.append("{\"from\": ");
+        string(e.either());
+        buffer.append(", \"to\": ");
+        string(e.other(e.either()));
+        buffer.append(", \"weight\": ").append(e.weight()).append('}');
+    }
+
+    private void writeAlgorithmResult(List<Edge> edges, double cost, long ops, double time) throws IOException {
+        newline(8);
+        key("mst_edges").append('[');
+        for (int i = 0; i < edges.size(); i++) {
+            newline(10);
+            edge(edges.get(i));
+            if (i < edges.size() - 1) buffer.append(',');
+            flushIfNeeded();
+        }
+        newline(8);
+        buffer.append("],");
+        newline(8);
+        key("total_cost").append(Math.round(cost * 100.0) / 100.0).append(',');
+        newline(8);
+        key("operations_count").append(ops).append(',');
+        newline(8);
+        key("execution_time_ms").append(Math.round(time * 100.0) / 100.0);
+    }
+
+    private void newline(int indent) {
+        if (ndjson) return;
+        buffer.append('\n');
+        for (int i = 0; i < indent; i++) {
+            buffer.append(' ');
+        }
+    }
+
+    private StringBuilder key(String name) {
+        return buffer.append('"').append(name).append("\": ");
+    }
+
+    private void string(String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.append('\\').append(c);
+            } else if (c < 0x20) {
+                buffer.append(String.format("\\u%04x", (int) c));
+            } else {
+                buffer.append(c);
+            }
+        }
+        buffer.append('"');
+    }
+
+    private void flushIfNeeded() throws IOException {
+        if (buffer.length() >= FLUSH_THRESHOLD) flushBuffer();
+    }
+
+    // Copies through a reusable char[] so no String is built for the output
+    private void flushBuffer() throws IOException {
+        int length = buffer.length();
+        if (chunk.length < length) chunk = new char[length];
+        buffer.getChars(0, length, chunk, 0);
+        out.write(chunk, 0, length);
+        buffer.setLength(0);
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!ndjson) {
+            buffer.append("\n  ]\n}");
+        }
+        flushBuffer();
+        out.close();
+    }
+}
@@ -1,36 +1,33 @@
 import java.util.*;
 
-public class KruskalMST {
-    private static final double EPSILON = 1.0E-12;
-
-    private List<Edge> mstEdges;
-    private double totalCost;
-    private int operationsCount;
+public final class KruskalMST extends AbstractSpanningTree {
+    private long operationsCount;
+    private long sortNanos;
+    private long unionFindNanos;
     private double executionTimeMs;
-    private boolean isConnected;
 
     public KruskalMST(Graph G) {
         long startTime = System.nanoTime();
         this.mstEdges = new ArrayList<>();
         this.totalCost = 0.0;
         this.operationsCount = 0;
-        this.isConnected = G.isConnected();
+        this.isConnected = true;
 
-        if (!isConnected || G.V() == 0) {
+        if (G.V() == 0) {
             long endTime = System.nanoTime();
             this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
             return;
         }
 
-        List<Edge> edges = new ArrayList<>();
-        for (Edge e : G.edges()) {
-            edges.add(e);
-            operationsCount++;
-        }
+        long sortStart = System.nanoTime();
+        List<Edge> edges = new ArrayList<>(G.edges());
+        operationsCount += edges.size();
 
         Collections.sort(edges);
-        operationsCount += edges.size() * (int)(Math.log(edges.size()) / Math.log(2));
+        operationsCount += (long) edges.size() * (int)(Math.log(edges.size()) / Math.log(2));
 
+        long unionFindStart = System.nanoTime();
+        this.sortNanos = unionFindStart - sortStart;
         UnionFind uf = new UnionFind(G.V());
 
         for (Edge e : edges) {
@@ -54,56 +51,87 @@ public class KruskalMST {
             }
         }
 
+        this.unionFindNanos = System.nanoTime() - unionFindStart;
+
+        // Connectivity falls out of the union-find: one component left means a spanning tree
+        finish(uf.count() == 1);
+
         long endTime = System.nanoTime();
         this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
     }
 
-    public List<Edge> edges() {
-        return new ArrayList<>(mstEdges);
-    }
+    public KruskalMST(CSRGraph G) {
+        long startTime = System.nanoTime();
+        this.mstEdges = new ArrayList<>();
+        this.totalCost = 0.0;
+        this.operationsCount = 0;
+        this.isConnected = true;
 
-    public double weight() {
-        return totalCost;
-    }
+        if (G.V() == 0) {
+            long endTime = System.nanoTime();
+            this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return;
+        }
 
-    public int operationsCount() {
-        return operationsCount;
-    }
+        long sortStart = System.nanoTime();
+        EdgeList edges = new EdgeList(G);
+        operationsCount += edges.size();
 
-    public double executionTime() {
-        return executionTimeMs;
-    }
+        edges.sortByWeight();
+        operationsCount += (long) edges.size() * (int)(Math.log(edges.size()) / Math.log(2));
 
-    public boolean isConnected() {
-        return isConnected;
-    }
+        long unionFindStart = System.nanoTime();
+        this.sortNanos = unionFindStart - sortStart;
+        UnionFind uf = new UnionFind(G.V());
+        int[] treeFrom = new int[G.V() - 1];
 
-    public boolean check(Graph G) {
-        double total = 0.0;
-        for (Edge e : edges()) {
-            total += e.weight();
-        }
-        if (Math.abs(total - weight()) > EPSILON) {
-            return false;
+        for (int i = 0; i < edges.size(); i++) {
+            int vIdx = edges.from(i);
+            int wIdx = edges.to(i);
+
+            operationsCount++;
+            operationsCount++;
+
+            if (!uf.connected(vIdx, wIdx)) {
+                uf.union(vIdx, wIdx);
+                treeFrom[mstEdges.size()] = vIdx;
+                mstEdges.add(new Edge(G.getNodeName(vIdx), G.getNodeName(wIdx), edges.weight(i)));
+                totalCost += edges.weight(i);
+                operationsCount++;
+
+                if (mstEdges.size() == G.V() - 1) {
+                    break;
+                }
+            }
         }
 
-        if (isConnected && edges().size() != G.V() - 1) {
-            return false;
+        this.unionFindNanos = System.nanoTime() - unionFindStart;
+
+        // Connectivity falls out of the union-find: one component left means a spanning tree.
+        // Otherwise every edge has been seen and the partial tree is the minimum spanning forest
+        if (uf.count() > 1) {
+            this.forest = new MinimumSpanningForest(G.V(), mstEdges, treeFrom, uf, operationsCount,
+                    sortNanos, unionFindNanos, (System.nanoTime() - startTime) / 1_000_000.0);
         }
+        finish(uf.count() == 1);
 
-        UnionFind uf = new UnionFind(G.V());
-        for (Edge e : edges()) {
-            String v = e.either();
-            String w = e.other(v);
-            int vIdx = G.getNodeIndex(v);
-            int wIdx = G.getNodeIndex(w);
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+    }
 
-            if (uf.connected(vIdx, wIdx)) {
-                return false;
-            }
-            uf.union(vIdx, wIdx);
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    public long phaseTime(SolverMetrics.Phase phase) {
+        switch (phase) {
+            case SORT: return sortNanos;
+            case UNION_FIND: return unionFindNanos;
+            default: return 0;
         }
+    }
 
-        return true;
+    public double executionTime() {
+        return executionTimeMs;
     }
 }
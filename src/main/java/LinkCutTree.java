@@ -0,0 +1,227 @@
+import java.util.Arrays;
+
+// Forest of rooted trees over int nodes, each carrying a value, with O(log n)
+// amortized link, cut, connectivity and path-maximum queries (Sleator & Tarjan).
+// Preferred paths are splay trees keyed by depth, stored in parallel arrays.
+public class LinkCutTree {
+    private static final int NIL = -1;
+
+    private int[] left;
+    private int[] right;
+    private int[] parent;   // splay parent, or path-parent for the root of a splay tree
+    private boolean[] flip; // children of this node still need swapping
+    private double[] value;
+    private int[] max;      // node of maximum value in this splay subtree
+    private int[] stack;
+    private int size;
+    private int[] free;
+    private int freeCount;
+
+    public LinkCutTree(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException();
+        capacity = Math.max(capacity, 16);
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        flip = new boolean[capacity];
+        value = new double[capacity];
+        max = new int[capacity];
+        stack = new int[capacity];
+        free = new int[16];
+    }
+
+    // New single-node tree; ids of removed nodes are reused
+    public int addNode(double nodeValue) {
+        int x;
+        if (freeCount > 0) {
+            x = free[--freeCount];
+        } else {
+            if (size == left.length) grow();
+            x = size++;
+        }
+        left[x] = NIL;
+        right[x] = NIL;
+        parent[x] = NIL;
+        flip[x] = false;
+        value[x] = nodeValue;
+        max[x] = x;
+        return x;
+    }
+
+    // Frees a node that has already been cut from all its neighbours
+    public void removeNode(int x) {
+        validate(x);
+        access(x);
+        if (left[x] != NIL || right[x] != NIL || parent[x] != NIL) {
+            throw new IllegalStateException("Node " + x + " is still linked");
+        }
+        if (freeCount == free.length) free = Arrays.copyOf(free, 2 * freeCount);
+        free[freeCount++] = x;
+    }
+
+    public double value(int x) {
+        validate(x);
+        return value[x];
+    }
+
+    public void setValue(int x, double nodeValue) {
+        validate(x);
+        // After access x is the root of its splay tree, so only its own aggregate changes
+        access(x);
+        value[x] = nodeValue;
+        update(x);
+    }
+
+    public boolean connected(int u, int v) {
+        validate(u);
+        validate(v);
+        return u == v || findRoot(u) == findRoot(v);
+    }
+
+    // Adds edge u-v; u and v must be in different trees
+    public void link(int u, int v) {
+        validate(u);
+        validate(v);
+        makeRoot(u);
+        if (findRoot(v) == u) throw new IllegalArgumentException("Nodes " + u + " and " + v + " are already connected");
+        parent[u] = v;
+    }
+
+    // Removes edge u-v, which must exist
+    public void cut(int u, int v) {
+        validate(u);
+        validate(v);
+        makeRoot(u);
+        access(v);
+        // With u as root and v accessed, edge u-v exists iff u is v's only left descendant
+        pushDown(v);
+        if (left[v] != u || right[u] != NIL || left[u] != NIL) {
+            throw new IllegalArgumentException("No edge between " + u + " and " + v);
+        }
+        left[v] = NIL;
+        parent[u] = NIL;
+        update(v);
+    }
+
+    // Node of maximum value on the tree path u..v; u and v must be connected
+    public int pathMax(int u, int v) {
+        validate(u);
+        validate(v);
+        makeRoot(u);
+        access(v);
+        if (findRoot(v) != u) throw new IllegalArgumentException("Nodes " + u + " and " + v + " are not connected");
+        access(v);
+        return max[v];
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        flip[x] = !flip[x];
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        pushDown(x);
+        while (left[x] != NIL) {
+            x = left[x];
+            pushDown(x);
+        }
+        splay(x);
+        return x;
+    }
+
+    // Makes the root-to-x path preferred and splays x to the top of it
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            update(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    private void splay(int x) {
+        // Pending flips on the way down must be applied before rotating
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            stack[top++] = parent[y];
+        }
+        while (top > 0) {
+            pushDown(stack[--top]);
+        }
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                rotate((left[g] == p) == (left[p] == x) ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        if (!isSplayRoot(p)) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+        parent[x] = g;
+
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NIL) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NIL) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        update(p);
+        update(x);
+    }
+
+    private void pushDown(int x) {
+        if (!flip[x]) return;
+        int tmp = left[x];
+        left[x] = right[x];
+        right[x] = tmp;
+        if (left[x] != NIL) flip[left[x]] = !flip[left[x]];
+        if (right[x] != NIL) flip[right[x]] = !flip[right[x]];
+        flip[x] = false;
+    }
+
+    private void update(int x) {
+        int m = x;
+        if (left[x] != NIL && value[max[left[x]]] > value[m]) m = max[left[x]];
+        if (right[x] != NIL && value[max[right[x]]] > value[m]) m = max[right[x]];
+        max[x] = m;
+    }
+
+    private void grow() {
+        int capacity = 2 * left.length;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        flip = Arrays.copyOf(flip, capacity);
+        value = Arrays.copyOf(value, capacity);
+        max = Arrays.copyOf(max, capacity);
+        stack = Arrays.copyOf(stack, capacity);
+    }
+
+    private void validate(int x) {
+        if (x < 0 || x >= size) {
+            throw new IllegalArgumentException("node " + x + " is not between 0 and " + (size - 1));
+        }
+    }
+}
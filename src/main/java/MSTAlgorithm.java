@@ -0,0 +1,44 @@
+import java.util.function.Function;
+
+public enum MSTAlgorithm {
+    PRIM("prim", PrimMST::new, PrimMST::new),
+    EAGER_PRIM("eager-prim", EagerPrimMST::new, EagerPrimMST::new),
+    DENSE_PRIM("dense-prim", DensePrimMST::new, DensePrimMST::new),
+    KRUSKAL("kruskal", KruskalMST::new, KruskalMST::new),
+    FILTER_KRUSKAL("filter-kruskal", FilterKruskalMST::new, FilterKruskalMST::new),
+    BORUVKA("boruvka", BoruvkaMST::new, BoruvkaMST::new),
+    FOREST("forest", MinimumSpanningForest::new, MinimumSpanningForest::new);
+
+    private final String label;
+    private final Function<Graph, MinimumSpanningTree> onGraph;
+    private final Function<CSRGraph, MinimumSpanningTree> onCSRGraph;
+
+    MSTAlgorithm(String label, Function<Graph, MinimumSpanningTree> onGraph,
+                 Function<CSRGraph, MinimumSpanningTree> onCSRGraph) {
+        this.label = label;
+        this.onGraph = onGraph;
+        this.onCSRGraph = onCSRGraph;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public MinimumSpanningTree compute(Graph G) {
+        return onGraph.apply(G);
+    }
+
+    public MinimumSpanningTree compute(CSRGraph G) {
+        return onCSRGraph.apply(G);
+    }
+
+    // Accepts the label ("eager-prim") or the constant name ("EAGER_PRIM")
+    public static MSTAlgorithm parse(String name) {
+        for (MSTAlgorithm algorithm : values()) {
+            if (algorithm.label.equalsIgnoreCase(name) || algorithm.name().equalsIgnoreCase(name)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unknown MST algorithm: " + name);
+    }
+}
@@ -0,0 +1,40 @@
+// Picks the sequential engine expected to be fastest for a graph.
+// The degree thresholds are rough starting points, not measured crossovers;
+// MSTBenchmark (mvn -P jmh) is where to tune them for a given machine.
+public class MSTSelector {
+    // Above this average degree Prim's V-sized heap beats sorting all E edges
+    static final int PRIM_DEGREE = 32;
+    // Integral weights need only a few radix passes, so Kruskal stays ahead longer
+    static final int PRIM_DEGREE_INTEGRAL = 64;
+
+    public static MSTAlgorithm select(CSRGraph G) {
+        return select(G.V(), G.E(), hasIntegralWeights(G));
+    }
+
+    public static MSTAlgorithm select(Graph G) {
+        return select(new CSRGraph(G));
+    }
+
+    public static MSTAlgorithm select(int V, long E, boolean integralWeights) {
+        if (V <= 1 || E == 0) return MSTAlgorithm.KRUSKAL;
+        if (DensePrimMST.isDense(V, E)) return MSTAlgorithm.DENSE_PRIM;
+
+        double averageDegree = 2.0 * E / V;
+        int threshold = integralWeights ? PRIM_DEGREE_INTEGRAL : PRIM_DEGREE;
+        if (averageDegree >= threshold) return MSTAlgorithm.EAGER_PRIM;
+        return MSTAlgorithm.KRUSKAL;
+    }
+
+    // Any algorithm other than the primary one, used to cross-check its cost
+    public static MSTAlgorithm crossCheckFor(MSTAlgorithm primary) {
+        return primary == MSTAlgorithm.KRUSKAL ? MSTAlgorithm.EAGER_PRIM : MSTAlgorithm.KRUSKAL;
+    }
+
+    static boolean hasIntegralWeights(CSRGraph G) {
+        for (int i = 0; i < 2 * G.E(); i++) {
+            double w = G.weight(i);
+            if (w != Math.rint(w) || Math.abs(w) > Integer.MAX_VALUE) return false;
+        }
+        return true;
+    }
+}
@@ -1,18 +1,64 @@
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
 
 public class MSTSolver {
 
     public static void main(String[] args) {
         String inputFile = "input.json";
         String outputFile = "output.json";
-
-        if (args.length >= 1) inputFile = args[0];
-        if (args.length >= 2) outputFile = args[1];
+        SolverOptions options = new SolverOptions();
+
+        String cacheDir = null;
+        long cacheMegabytes = ResultCache.DEFAULT_MAX_BYTES >> 20;
+        long cacheMemoryMegabytes = ResultCache.DEFAULT_MEMORY_BYTES >> 20;
+        List<String> positional = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--ndjson")) {
+                options.ndjson = true;
+            } else if (arg.equals("--auto")) {
+                options.auto = true;
+            } else if (arg.startsWith("--algorithm=")) {
+                String name = arg.substring("--algorithm=".length());
+                if (name.equals("auto")) options.auto = true;
+                else options.algorithm = MSTAlgorithm.parse(name);
+            } else if (arg.equals("--cross-check")) {
+                options.crossCheck = true;
+            } else if (arg.equals("--metrics")) {
+                options.metrics = true;
+            } else if (arg.startsWith("--cache=")) {
+                cacheDir = arg.substring("--cache=".length());
+            } else if (arg.startsWith("--cache-size=")) {
+                cacheMegabytes = Long.parseLong(arg.substring("--cache-size=".length()));
+            } else if (arg.startsWith("--cache-memory=")) {
+                cacheMemoryMegabytes = Long.parseLong(arg.substring("--cache-memory=".length()));
+            } else if (arg.equals("--off-heap")) {
+                options.offHeap = true;
+            } else if (arg.equals("--parallel")) {
+                options.threads = Runtime.getRuntime().availableProcessors();
+            } else if (arg.startsWith("--threads=")) {
+                options.threads = Integer.parseInt(arg.substring("--threads=".length()));
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (positional.size() >= 1) inputFile = positional.get(0);
+        if (positional.size() >= 2) outputFile = positional.get(1);
+        // Without a chosen engine Prim and Kruskal already check each other, so the flag would do nothing
+        if (options.crossCheck && !options.singleEngine()) {
+            System.err.println("⚠️ --cross-check needs --auto or --algorithm=<name>");
+            return;
+        }
 
         try {
-            processGraphs(inputFile, outputFile);
+            if (cacheDir != null) {
+                options.cache = new ResultCache(Paths.get(cacheDir), cacheMegabytes << 20,
+                        cacheMemoryMegabytes << 20);
+            }
+            processGraphs(inputFile, outputFile, options);
             System.out.println("✅ Processing complete. Results written to " + outputFile);
         } catch (Exception e) {
             System.err.println("⚠️ Error processing files: " + e.getMessage());
@@ -21,209 +67,377 @@ public class MSTSolver {
     }
 
     public static void processGraphs(String inputFile, String outputFile) throws Exception {
-        List<GraphData> graphDataList = parseInputFile(inputFile);
-        List<ResultData> results = new ArrayList<>();
-
-        for (GraphData graphData : graphDataList) {
-            System.out.println("\nProcessing Graph " + graphData.id + "...");
+        processGraphs(inputFile, outputFile, new SolverOptions());
+    }
 
-            Graph graph = buildGraph(graphData);
+    public static void processGraphs(String inputFile, String outputFile, SolverOptions options) throws Exception {
+        if (inputFile.endsWith(BinaryGraphFile.EXTENSION)) {
+            processBinaryGraph(inputFile, outputFile, options);
+            return;
+        }
+        if (options.threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
 
-            if (!graph.isConnected()) {
-                System.out.println("⚠️ Warning: Graph " + graphData.id + " is not connected!");
+        // Graphs, and the Prim/Kruskal pair of each graph, are solved on a bounded
+        // pool; at most 2 * threads graphs are parsed but not yet written
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads);
+        int maxInFlight = 2 * options.threads;
+        Deque<CompletableFuture<ResultData>> pending = new ArrayDeque<>();
+        SolverMetrics metrics = new SolverMetrics();
+
+        try (JsonGraphReader reader = new JsonGraphReader(openInput(inputFile));
+             JsonResultWriter writer = openOutput(outputFile, options)) {
+            GraphData graphData;
+            long parseStart = System.nanoTime();
+            while ((graphData = reader.nextGraph()) != null) {
+                metrics.record(SolverMetrics.Phase.PARSE, graphData.id, System.nanoTime() - parseStart);
+                GraphData data = graphData;
+                if (options.cache == null) {
+                    pending.add(solve(data, options, executor, metrics));
+                } else {
+                    pending.add(solveCached(data, options, executor, metrics));
+                }
+
+                // Results are written in input order as soon as the head is done
+                while (!pending.isEmpty() && (pending.peek().isDone() || pending.size() >= maxInFlight)) {
+                    writeResult(writer, pending.poll(), metrics);
+                }
+                parseStart = System.nanoTime();
             }
+            while (!pending.isEmpty()) {
+                writeResult(writer, pending.poll(), metrics);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (options.metrics) metrics.writeJson(SolverMetrics.fileFor(outputFile));
+    }
+
+    private static void writeResult(JsonResultWriter writer, CompletableFuture<ResultData> future,
+                                    SolverMetrics metrics) throws Exception {
+        ResultData result;
+        try {
+            result = future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception) throw (Exception) e.getCause();
+            throw e;
+        }
+        printSummary(result);
+        long writeStart = System.nanoTime();
+        writer.write(result);
+        metrics.record(SolverMetrics.Phase.WRITE, result.graphId, System.nanoTime() - writeStart);
+        metrics.graphSolved(result);
+    }
+
+    private static CompletableFuture<ResultData> solve(GraphData data, SolverOptions options,
+                                                       ExecutorService executor, SolverMetrics metrics) {
+        if (data.points != null) return solvePoints(data, options, executor, metrics);
+        if (options.singleEngine()) return solveSingle(data, options, executor, metrics);
+
+        CompletableFuture<CSRGraph> graph = CompletableFuture.supplyAsync(
+                () -> metrics.time(SolverMetrics.Phase.BUILD, data.id, () -> buildGraph(data, options)), executor);
+        return release(graph, graph
+                .thenApplyAsync(g -> solvePrim(data.id, g, metrics), executor)
+                .thenCombine(graph.thenApplyAsync(g -> solveKruskal(data.id, g, metrics), executor),
+                        MSTSolver::merge)
+                .thenCombineAsync(graph, (r, g) -> attachForest(r, g, metrics), executor));
+    }
 
-            PrimMST primMST = new PrimMST(graph);
-            KruskalMST kruskalMST = new KruskalMST(graph);
+    private static CSRGraph buildGraph(GraphData data, SolverOptions options) {
+        return options.offHeap ? OffHeapCSRGraph.of(data) : buildCSRGraph(data);
+    }
 
-            ResultData result = new ResultData();
-            result.graphId = graphData.id;
-            result.vertices = graph.V();
-            result.totalEdges = graph.E();
+    // Off-heap graphs are freed as soon as every engine on them is done
+    private static CompletableFuture<ResultData> release(CompletableFuture<CSRGraph> graph,
+                                                         CompletableFuture<ResultData> result) {
+        return result.whenComplete((r, e) -> graph.thenAccept(g -> {
+            if (g instanceof OffHeapCSRGraph) ((OffHeapCSRGraph) g).close();
+        }));
+    }
 
-            result.primEdges = primMST.edges();
-            result.primCost = primMST.weight();
-            result.primOps = primMST.operationsCount();
-            result.primTime = primMST.executionTime();
+    // A hit is written straight from the cache, with the counts and times of the run that solved it.
+    // Hashing every edge and reading a cached file happen on the pool, so the reader keeps parsing
+    private static CompletableFuture<ResultData> solveCached(GraphData data, SolverOptions options,
+                                                             ExecutorService executor, SolverMetrics metrics) {
+        String mode = cacheMode(data, options);
+        return CompletableFuture.supplyAsync(() -> ResultCache.key(data, mode), executor).thenComposeAsync(key -> {
+            ResultData cached = options.cache.get(key, data.id);
+            metrics.cacheLookup(cached != null);
+            if (cached != null) return CompletableFuture.completedFuture(cached);
+            return solve(data, options, executor, metrics).thenApplyAsync(r -> {
+                options.cache.put(key, r);
+                return r;
+            }, executor);
+        }, executor);
+    }
 
-            result.kruskalEdges = kruskalMST.edges();
-            result.kruskalCost = kruskalMST.weight();
-            result.kruskalOps = kruskalMST.operationsCount();
-            result.kruskalTime = kruskalMST.executionTime();
+    // Which engines a result came from; part of the cache key
+    private static String cacheMode(GraphData data, SolverOptions options) {
+        String mode;
+        if (data.points != null) mode = EuclideanMST.LABEL;
+        else if (options.auto) mode = "auto";
+        else if (options.algorithm != null) mode = options.algorithm.label();
+        else mode = "prim+kruskal";
+        return options.crossCheck && (data.points != null || options.singleEngine()) ? mode + "+cross-check" : mode;
+    }
 
-            results.add(result);
+    // One engine per graph, fixed or selected, optionally cross-checked by a second one in parallel
+    private static CompletableFuture<ResultData> solveSingle(GraphData data, SolverOptions options,
+                                                             ExecutorService executor, SolverMetrics metrics) {
+        CompletableFuture<CSRGraph> graph = CompletableFuture.supplyAsync(
+                () -> metrics.time(SolverMetrics.Phase.BUILD, data.id, () -> buildGraph(data, options)), executor);
+        CompletableFuture<MSTAlgorithm> algorithm = graph.thenApply(g -> chooseAlgorithm(g, options));
+        CompletableFuture<ResultData> result = graph.thenCombineAsync(algorithm,
+                (g, a) -> solveWith(data.id, g, a, metrics), executor)
+                .thenCombineAsync(graph, (r, g) -> attachForest(r, g, metrics), executor);
+        if (!options.crossCheck) return release(graph, result);
+
+        CompletableFuture<MinimumSpanningTree> check = graph.thenCombineAsync(algorithm, (g, a) -> {
+            MinimumSpanningTree mst = MSTSelector.crossCheckFor(a).compute(g);
+            metrics.record(data.id, mst);
+            return mst;
+        }, executor);
+        return release(graph, result.thenCombine(check, MSTSolver::mergeCrossCheck));
+    }
 
-            System.out.println("Prim’s MST cost: " + primMST.weight());
-            System.out.println("Kruskal’s MST cost: " + kruskalMST.weight());
-            System.out.println("Costs match: " + (Math.abs(primMST.weight() - kruskalMST.weight()) < 0.01));
-        }
+    // Point sets are complete Euclidean graphs, solved without materializing a single edge;
+    // the cross-check runs O(n^2) Prim over the same distances
+    private static CompletableFuture<ResultData> solvePoints(GraphData data, SolverOptions options,
+                                                             ExecutorService executor, SolverMetrics metrics) {
+        List<String> names = pointNames(data);
+        CompletableFuture<ResultData> result = CompletableFuture.supplyAsync(() -> {
+            EuclideanMST mst = new EuclideanMST(names, data.points, data.dimension);
+            metrics.record(data.id, mst);
+            ResultData r = new ResultData();
+            r.graphId = data.id;
+            r.vertices = names.size();
+            r.totalEdges = (long) names.size() * (names.size() - 1) / 2;
+            r.connected = mst.isConnected();
+            r.algorithm = EuclideanMST.LABEL;
+            r.mstEdges = mst.edges();
+            r.mstCost = mst.weight();
+            r.mstOps = mst.operationsCount();
+            r.mstTime = mst.executionTime();
+            return r;
+        }, executor);
+        if (!options.crossCheck) return result;
+
+        CompletableFuture<DensePrimMST> check = CompletableFuture.supplyAsync(() -> new DensePrimMST(names,
+                (i, j) -> EuclideanMST.distance(data.points, data.dimension, i, j)), executor);
+        return result.thenCombine(check, (r, c) -> {
+            metrics.record(data.id, c);
+            r.crossCheckAlgorithm = MSTAlgorithm.DENSE_PRIM.label();
+            r.crossCheckCost = c.weight();
+            return r;
+        });
+    }
 
-        writeOutput(outputFile, results);
+    // Points are named by "nodes" when given, V0, V1, ... otherwise
+    private static List<String> pointNames(GraphData data) {
+        int n = data.dimension == 0 ? 0 : data.points.length / data.dimension;
+        if (data.nodes.isEmpty()) return GraphGenerator.nodeNames(n);
+        if (data.nodes.size() != n) {
+            throw new IllegalArgumentException("Graph " + data.id + " has " + data.nodes.size()
+                    + " node names for " + n + " points");
+        }
+        return data.nodes;
     }
 
-    private static Graph buildGraph(GraphData graphData) {
-        Graph graph = new Graph(graphData.nodes);
-        for (EdgeData edgeData : graphData.edges) {
-            graph.addEdge(new Edge(edgeData.from, edgeData.to, edgeData.weight));
+    // Disconnected graphs have no spanning tree, so they are reported as a forest instead.
+    // Kruskal-style engines hand over the forest they already found; only the Prim family,
+    // which stops at the first component, needs a separate pass
+    private static ResultData attachForest(ResultData result, CSRGraph graph, SolverMetrics metrics) {
+        if (!result.connected && result.forest == null) {
+            result.forest = metrics.time(SolverMetrics.Phase.CONNECTIVITY, result.graphId,
+                    () -> new MinimumSpanningForest(graph));
         }
-        return graph;
+        return result;
     }
 
-    private static List<GraphData> parseInputFile(String filename) throws IOException {
-        InputStream inputStream = MSTSolver.class.getClassLoader().getResourceAsStream(filename);
-        if (inputStream == null) throw new FileNotFoundException("❌ File " + filename + " not found in resources.");
-        StringBuilder content = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) content.append(line.trim());
-        }
-        return parseGraphs(content.toString());
-    }
-
-    private static List<GraphData> parseGraphs(String json) {
-        List<GraphData> graphs = new ArrayList<>();
-        int graphsStart = json.indexOf("\"graphs\"");
-        if (graphsStart == -1) return graphs;
-
-        int arrayStart = json.indexOf("[", graphsStart);
-        int arrayEnd = findMatchingBracket(json, arrayStart, '[', ']');
-        String graphsContent = json.substring(arrayStart + 1, arrayEnd);
-
-        int pos = 0;
-        while (pos < graphsContent.length()) {
-            int objStart = graphsContent.indexOf("{", pos);
-            if (objStart == -1) break;
-            int objEnd = findMatchingBracket(graphsContent, objStart, '{', '}');
-            String graphObj = graphsContent.substring(objStart, objEnd + 1);
-            GraphData graph = parseGraph(graphObj);
-            if (graph != null) graphs.add(graph);
-            pos = objEnd + 1;
-        }
-        return graphs;
-    }
-
-    private static GraphData parseGraph(String graphJson) {
-        GraphData graph = new GraphData();
-        graph.id = extractInt(graphJson, "\"id\"");
-        int nodesStart = graphJson.indexOf("\"nodes\"");
-        if (nodesStart != -1) {
-            int arrayStart = graphJson.indexOf("[", nodesStart);
-            int arrayEnd = findMatchingBracket(graphJson, arrayStart, '[', ']');
-            String[] nodeTokens = graphJson.substring(arrayStart + 1, arrayEnd).split(",");
-            for (String token : nodeTokens) {
-                String node = token.trim().replaceAll("\"", "");
-                if (!node.isEmpty()) graph.nodes.add(node);
+    private static MSTAlgorithm chooseAlgorithm(CSRGraph graph, SolverOptions options) {
+        return options.auto ? MSTSelector.select(graph) : options.algorithm;
+    }
+
+    private static ResultData solveWith(int graphId, CSRGraph graph, MSTAlgorithm algorithm, SolverMetrics metrics) {
+        MinimumSpanningTree mst = algorithm.compute(graph);
+        metrics.record(graphId, mst);
+        ResultData result = new ResultData();
+        result.graphId = graphId;
+        result.vertices = graph.V();
+        result.totalEdges = graph.E();
+        result.connected = mst.isConnected();
+        result.algorithm = algorithm.label();
+        result.mstEdges = mst.edges();
+        result.mstCost = mst.weight();
+        result.mstOps = mst.operationsCount();
+        result.mstTime = mst.executionTime();
+        result.forest = mst.forest();
+        return result;
+    }
+
+    private static ResultData mergeCrossCheck(ResultData result, MinimumSpanningTree check) {
+        result.crossCheckAlgorithm = MSTSelector.crossCheckFor(MSTAlgorithm.parse(result.algorithm)).label();
+        result.crossCheckCost = check.weight();
+        return result;
+    }
+
+    // Prim half of a result; near-complete graphs skip the heap entirely
+    private static ResultData solvePrim(int graphId, CSRGraph graph, SolverMetrics metrics) {
+        ResultData result = new ResultData();
+        result.graphId = graphId;
+        result.vertices = graph.V();
+        result.totalEdges = graph.E();
+
+        MinimumSpanningTree primMST = DensePrimMST.isDense(graph.V(), graph.E())
+                ? new DensePrimMST(graph)
+                : new PrimMST(graph);
+        metrics.record(graphId, primMST);
+        result.primEdges = primMST.edges();
+        result.primCost = primMST.weight();
+        result.primOps = primMST.operationsCount();
+        result.primTime = primMST.executionTime();
+        return result;
+    }
+
+    private static KruskalMST solveKruskal(int graphId, CSRGraph graph, SolverMetrics metrics) {
+        KruskalMST kruskalMST = new KruskalMST(graph);
+        metrics.record(graphId, kruskalMST);
+        return kruskalMST;
+    }
+
+    private static ResultData merge(ResultData result, KruskalMST kruskalMST) {
+        result.connected = kruskalMST.isConnected();
+        result.kruskalEdges = kruskalMST.edges();
+        result.kruskalCost = kruskalMST.weight();
+        result.kruskalOps = kruskalMST.operationsCount();
+        result.kruskalTime = kruskalMST.executionTime();
+        result.forest = kruskalMST.forest();
+        return result;
+    }
+
+    private static void printSummary(ResultData result) {
+        System.out.println("\nProcessing Graph " + result.graphId + "...");
+        if (!result.connected) {
+            System.out.println("⚠️ Warning: Graph " + result.graphId + " is not connected!");
+        }
+        if (result.forest != null) {
+            System.out.println("Spanning forest: " + result.forest.componentCount() + " components, cost "
+                    + result.forest.weight());
+        }
+        if (result.algorithm != null) {
+            System.out.println("MST cost (" + result.algorithm + "): " + result.mstCost);
+            if (result.crossCheckAlgorithm != null) {
+                System.out.println("Cross-check cost (" + result.crossCheckAlgorithm + "): " + result.crossCheckCost);
+                System.out.println("Costs match: " + result.crossCheckMatches());
             }
+            return;
         }
-        int edgesStart = graphJson.indexOf("\"edges\"");
-        if (edgesStart != -1) {
-            int arrayStart = graphJson.indexOf("[", edgesStart);
-            int arrayEnd = findMatchingBracket(graphJson, arrayStart, '[', ']');
-            String edgesArray = graphJson.substring(arrayStart + 1, arrayEnd);
-            int pos = 0;
-            while (pos < edgesArray.length()) {
-                int objStart = edgesArray.indexOf("{", pos);
-                if (objStart == -1) break;
-                int objEnd = findMatchingBracket(edgesArray, objStart, '{', '}');
-                String edgeObj = edgesArray.substring(objStart, objEnd + 1);
-                EdgeData edge = new EdgeData();
-                edge.from = extractString(edgeObj, "\"from\"");
-                edge.to = extractString(edgeObj, "\"to\"");
-                edge.weight = extractDouble(edgeObj, "\"weight\"");
-                graph.edges.add(edge);
-                pos = objEnd + 1;
+        System.out.println("Prim’s MST cost: " + result.primCost);
+        System.out.println("Kruskal’s MST cost: " + result.kruskalCost);
+        System.out.println("Costs match: " + (Math.abs(result.primCost - result.kruskalCost) < 0.01));
+    }
+
+    // Runs directly on the memory-mapped CSR arrays, nothing is parsed or copied
+    public static void processBinaryGraph(String inputFile, String outputFile, SolverOptions options) throws Exception {
+        SolverMetrics metrics = new SolverMetrics();
+        long openStart = System.nanoTime();
+        BinaryGraphFile.MappedGraph graph = BinaryGraphFile.open(Paths.get(inputFile));
+        metrics.record(SolverMetrics.Phase.BUILD, graph.id(), System.nanoTime() - openStart);
+
+        ResultData result;
+        if (options.singleEngine()) {
+            MSTAlgorithm algorithm = chooseAlgorithm(graph, options);
+            result = solveWith(graph.id(), graph, algorithm, metrics);
+            if (options.crossCheck) {
+                MinimumSpanningTree check = MSTSelector.crossCheckFor(algorithm).compute(graph);
+                metrics.record(graph.id(), check);
+                mergeCrossCheck(result, check);
             }
+        } else {
+            result = merge(solvePrim(graph.id(), graph, metrics), solveKruskal(graph.id(), graph, metrics));
         }
-        return graph;
+        attachForest(result, graph, metrics);
+        printSummary(result);
+
+        try (JsonResultWriter writer = openOutput(outputFile, options)) {
+            long writeStart = System.nanoTime();
+            writer.write(result);
+            writer.flush();
+            metrics.record(SolverMetrics.Phase.WRITE, result.graphId, System.nanoTime() - writeStart);
+        }
+        metrics.graphSolved(result);
+        if (options.metrics) metrics.writeJson(SolverMetrics.fileFor(outputFile));
     }
 
-    private static int findMatchingBracket(String str, int start, char open, char close) {
-        int count = 1;
-        for (int i = start + 1; i < str.length(); i++) {
-            if (str.charAt(i) == open) count++;
-            if (str.charAt(i) == close) count--;
-            if (count == 0) return i;
-        }
-        return str.length() - 1;
-    }
-
-    private static int extractInt(String json, String key) {
-        int keyPos = json.indexOf(key);
-        if (keyPos == -1) return 0;
-        int colonPos = json.indexOf(":", keyPos);
-        int commaPos = json.indexOf(",", colonPos);
-        if (commaPos == -1) commaPos = json.indexOf("}", colonPos);
-        return Integer.parseInt(json.substring(colonPos + 1, commaPos).trim());
-    }
-
-    private static double extractDouble(String json, String key) {
-        int keyPos = json.indexOf(key);
-        if (keyPos == -1) return 0.0;
-        int colonPos = json.indexOf(":", keyPos);
-        int commaPos = json.indexOf(",", colonPos);
-        if (commaPos == -1) commaPos = json.indexOf("}", colonPos);
-        return Double.parseDouble(json.substring(colonPos + 1, commaPos).trim());
-    }
-
-    private static String extractString(String json, String key) {
-        int keyPos = json.indexOf(key);
-        if (keyPos == -1) return "";
-        int colonPos = json.indexOf(":", keyPos);
-        int quoteStart = json.indexOf("\"", colonPos);
-        int quoteEnd = json.indexOf("\"", quoteStart + 1);
-        return json.substring(quoteStart + 1, quoteEnd);
-    }
-
-    private static void writeOutput(String filename, List<ResultData> results) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
-            writer.write("{\n  \"results\": [\n");
-            for (int i = 0; i < results.size(); i++) {
-                ResultData result = results.get(i);
-                writer.write("    {\n");
-                writer.write("      \"graph_id\": " + result.graphId + ",\n");
-                writer.write("      \"input_stats\": {\n");
-                writer.write("        \"vertices\": " + result.vertices + ",\n");
-                writer.write("        \"edges\": " + result.totalEdges + "\n");
-                writer.write("      },\n");
-
-                writer.write("      \"prim\": {\n");
-                writeAlgorithmResult(writer, result.primEdges, result.primCost, result.primOps, result.primTime);
-                writer.write("      },\n");
-
-                writer.write("      \"kruskal\": {\n");
-                writeAlgorithmResult(writer, result.kruskalEdges, result.kruskalCost, result.kruskalOps, result.kruskalTime);
-                writer.write("      }\n");
-
-                writer.write("    }");
-                if (i < results.size() - 1) writer.write(",");
-                writer.write("\n");
+    // Straight to CSR from the parsed edges: each name is looked up once and no Edge
+    // objects are made; self-loops are dropped as Graph-based construction does
+    static CSRGraph buildCSRGraph(GraphData graphData) {
+        String[] names = graphData.nodes.toArray(new String[0]);
+        Map<String, Integer> nodeToIndex = new HashMap<>(2 * names.length);
+        for (int i = 0; i < names.length; i++) {
+            nodeToIndex.put(names[i], i);
+        }
+
+        List<EdgeData> edges = graphData.edges;
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        double[] weight = new double[edges.size()];
+        IntStream indices = IntStream.range(0, edges.size());
+        if (edges.size() >= CSRGraph.PARALLEL_THRESHOLD) indices = indices.parallel();
+        indices.forEach(i -> {
+            EdgeData edgeData = edges.get(i);
+            Integer v = nodeToIndex.get(edgeData.from);
+            Integer w = nodeToIndex.get(edgeData.to);
+            if (v == null || w == null) {
+                throw new IllegalArgumentException("Vertex not in graph");
             }
-            writer.write("  ]\n}");
+            from[i] = v;
+            to[i] = w;
+            weight[i] = edgeData.weight;
+        });
+
+        int E = 0;
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] == to[i]) continue;
+            from[E] = from[i];
+            to[E] = to[i];
+            weight[E] = weight[i];
+            E++;
         }
+        if (E == from.length) return new CSRGraph(names, from, to, weight);
+        return new CSRGraph(names, Arrays.copyOf(from, E), Arrays.copyOf(to, E), Arrays.copyOf(weight, E));
     }
 
-    private static void writeAlgorithmResult(BufferedWriter writer, List<Edge> edges,
-                                             double cost, int ops, double time) throws IOException {
-        writer.write("        \"mst_edges\": [\n");
-        for (int i = 0; i < edges.size(); i++) {
-            Edge e = edges.get(i);
-            writer.write("          {\"from\": \"" + e.either() + "\", ");
-            writer.write("\"to\": \"" + e.other(e.either()) + "\", ");
-            writer.write("\"weight\": " + e.weight() + "}");
-            if (i < edges.size() - 1) writer.write(",");
-            writer.write("\n");
+    static Graph buildGraph(GraphData graphData) {
+        Graph graph = new Graph(graphData.nodes);
+        for (EdgeData edgeData : graphData.edges) {
+            graph.addEdge(new Edge(edgeData.from, edgeData.to, edgeData.weight));
         }
-        writer.write("        ],\n");
-        writer.write("        \"total_cost\": " + Math.round(cost * 100.0) / 100.0 + ",\n");
-        writer.write("        \"operations_count\": " + ops + ",\n");
-        writer.write("        \"execution_time_ms\": " + Math.round(time * 100.0) / 100.0 + "\n");
+        return graph;
+    }
+
+    // Classpath resource first, then a file on disk
+    private static InputStream openInput(String filename) throws IOException {
+        InputStream inputStream = MSTSolver.class.getClassLoader().getResourceAsStream(filename);
+        if (inputStream != null) return inputStream;
+        File file = new File(filename);
+        if (!file.isFile()) throw new FileNotFoundException("❌ File " + filename + " not found in resources or on disk.");
+        return new FileInputStream(file);
+    }
+
+    private static JsonResultWriter openOutput(String filename, SolverOptions options) throws IOException {
+        Writer out = new OutputStreamWriter(new FileOutputStream(filename), StandardCharsets.UTF_8);
+        return new JsonResultWriter(out, options.ndjson);
     }
 
     static class GraphData {
         int id;
         List<String> nodes = new ArrayList<>();
         List<EdgeData> edges = new ArrayList<>();
+        // Set instead of edges for a point set; see JsonGraphReader
+        double[] points;
+        int dimension;
     }
 
     static class EdgeData {
@@ -232,17 +446,62 @@ public class MSTSolver {
         double weight;
     }
 
-    static class ResultData {
+    static class SolverOptions {
+        int threads = 1;
+        boolean ndjson = false;
+        // Single-engine mode: a fixed algorithm, or one selected per graph with auto
+        MSTAlgorithm algorithm;
+        boolean auto = false;
+        boolean crossCheck = false;
+        // Also write <output>.metrics.json next to the output
+        boolean metrics = false;
+        // Graphs are built in native memory and freed after each solve
+        boolean offHeap = false;
+        // Unchanged graphs are answered from here; kept across runs to reuse its memory tier
+        ResultCache cache;
+
+        boolean singleEngine() {
+            return auto || algorithm != null;
+        }
+    }
+
+    static class ResultData implements Cloneable {
         int graphId;
+        boolean connected;
         int vertices;
-        int totalEdges;
+        long totalEdges;
         List<Edge> primEdges;
         double primCost;
-        int primOps;
+        long primOps;
         double primTime;
         List<Edge> kruskalEdges;
         double kruskalCost;
-        int kruskalOps;
+        long kruskalOps;
         double kruskalTime;
+        // Single-engine mode
+        String algorithm;
+        List<Edge> mstEdges;
+        double mstCost;
+        long mstOps;
+        double mstTime;
+        String crossCheckAlgorithm;
+        double crossCheckCost;
+        // Set for disconnected graphs
+        MinimumSpanningForest forest;
+
+        boolean crossCheckMatches() {
+            return Math.abs(mstCost - crossCheckCost) < 0.01;
+        }
+
+        // Shares the edge lists and forest, which are never modified once solved
+        ResultData withGraphId(int id) {
+            try {
+                ResultData copy = (ResultData) clone();
+                copy.graphId = id;
+                return copy;
+            } catch (CloneNotSupportedException e) {
+                throw new AssertionError(e);
+            }
+        }
     }
 }
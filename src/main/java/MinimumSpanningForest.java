@@ -0,0 +1,190 @@
+import java.util.*;
+
+// One minimum spanning tree per connected component, found in a single Kruskal pass.
+// Components are numbered 0..componentCount()-1 in order of their lowest vertex index.
+public class MinimumSpanningForest extends AbstractSpanningTree {
+    private int[] edgeComponent;
+    private int[] componentOf;
+    private int[] componentSize;
+    private double[] componentCost;
+    // Forest edges grouped by component: those of c are byComponent[componentStart[c]..componentStart[c + 1])
+    private Edge[] byComponent;
+    private int[] componentStart;
+    private int components;
+    private long operationsCount;
+    private long sortNanos;
+    private long unionFindNanos;
+    private double executionTimeMs;
+
+    public MinimumSpanningForest(Graph G) {
+        this(new CSRGraph(G));
+    }
+
+    public MinimumSpanningForest(CSRGraph G) {
+        long startTime = System.nanoTime();
+        int V = G.V();
+        this.operationsCount = 0;
+
+        long sortStart = System.nanoTime();
+        EdgeList edges = new EdgeList(G);
+        operationsCount += edges.size();
+        edges.sortByWeight();
+        operationsCount += (long) edges.size() * (int) (Math.log(Math.max(1, edges.size())) / Math.log(2));
+
+        long unionFindStart = System.nanoTime();
+        this.sortNanos = unionFindStart - sortStart;
+
+        // Tree edges are remembered by endpoint so components can be attached afterwards
+        UnionFind uf = new UnionFind(V);
+        int[] treeFrom = new int[Math.max(0, V - 1)];
+        for (int i = 0; i < edges.size() && mstEdges.size() < V - 1; i++) {
+            int vIdx = edges.from(i);
+            int wIdx = edges.to(i);
+            operationsCount++;
+            operationsCount++;
+
+            if (!uf.connected(vIdx, wIdx)) {
+                uf.union(vIdx, wIdx);
+                treeFrom[mstEdges.size()] = vIdx;
+                mstEdges.add(new Edge(G.getNodeName(vIdx), G.getNodeName(wIdx), edges.weight(i)));
+                totalCost += edges.weight(i);
+                operationsCount++;
+            }
+        }
+
+        this.unionFindNanos = System.nanoTime() - unionFindStart;
+        label(V, uf, treeFrom);
+
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+    }
+
+    // The forest a Kruskal-style engine already holds once it has seen every edge of a
+    // disconnected graph: its edges in the order found, one endpoint of each in treeFrom,
+    // and the union-find that joined them
+    MinimumSpanningForest(int V, List<Edge> forestEdges, int[] treeFrom, DisjointSet uf, long operationsCount,
+                          long sortNanos, long unionFindNanos, double executionTimeMs) {
+        this.mstEdges = new ArrayList<>(forestEdges);
+        for (Edge e : forestEdges) {
+            totalCost += e.weight();
+        }
+        this.operationsCount = operationsCount;
+        this.sortNanos = sortNanos;
+        this.unionFindNanos = unionFindNanos;
+        this.executionTimeMs = executionTimeMs;
+        label(V, uf, treeFrom);
+    }
+
+    private void label(int V, DisjointSet uf, int[] treeFrom) {
+        this.components = uf.count();
+        this.componentOf = new int[V];
+        this.componentSize = new int[components];
+        this.componentCost = new double[components];
+        int[] idOfRoot = new int[V];
+        Arrays.fill(idOfRoot, -1);
+        int next = 0;
+        for (int v = 0; v < V; v++) {
+            int root = uf.find(v);
+            if (idOfRoot[root] == -1) idOfRoot[root] = next++;
+            componentOf[v] = idOfRoot[root];
+            componentSize[componentOf[v]]++;
+        }
+
+        this.edgeComponent = new int[mstEdges.size()];
+        for (int i = 0; i < mstEdges.size(); i++) {
+            edgeComponent[i] = componentOf[treeFrom[i]];
+            componentCost[edgeComponent[i]] += mstEdges.get(i).weight();
+        }
+        bucketByComponent();
+    }
+
+    // A forest computed earlier, e.g. read back by ResultCache
+    MinimumSpanningForest(List<Edge> forestEdges, int[] edgeComponent, int[] componentOf, int components,
+                          double totalCost, long operationsCount, double executionTimeMs) {
+        this.mstEdges = forestEdges;
+        this.edgeComponent = edgeComponent;
+        this.componentOf = componentOf;
+        this.components = components;
+        this.componentSize = new int[components];
+        this.componentCost = new double[components];
+        for (int c : componentOf) {
+            componentSize[c]++;
+        }
+        for (int i = 0; i < forestEdges.size(); i++) {
+            componentCost[edgeComponent[i]] += forestEdges.get(i).weight();
+        }
+        bucketByComponent();
+        this.totalCost = totalCost;
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    public int componentCount() {
+        return components;
+    }
+
+    public int component(int v) {
+        return componentOf[v];
+    }
+
+    public int componentSize(int c) {
+        return componentSize[c];
+    }
+
+    public double componentWeight(int c) {
+        return componentCost[c];
+    }
+
+    public List<Edge> componentEdges(int c) {
+        return new ArrayList<>(Arrays.asList(byComponent).subList(componentStart[c], componentStart[c + 1]));
+    }
+
+    // Counting sort on the component, keeping forest order within each one, so that
+    // listing every component costs O(V) in total rather than a scan per component
+    private void bucketByComponent() {
+        this.componentStart = new int[components + 1];
+        for (int c : edgeComponent) {
+            componentStart[c + 1]++;
+        }
+        for (int c = 0; c < components; c++) {
+            componentStart[c + 1] += componentStart[c];
+        }
+        int[] next = Arrays.copyOf(componentStart, components);
+        this.byComponent = new Edge[mstEdges.size()];
+        for (int i = 0; i < mstEdges.size(); i++) {
+            byComponent[next[edgeComponent[i]]++] = mstEdges.get(i);
+        }
+    }
+
+    @Override
+    public MinimumSpanningForest forest() {
+        return this;
+    }
+
+    public long operationsCount() {
+        return operationsCount;
+    }
+
+    public long phaseTime(SolverMetrics.Phase phase) {
+        switch (phase) {
+            case SORT: return sortNanos;
+            case UNION_FIND: return unionFindNanos;
+            default: return 0;
+        }
+    }
+
+    public double executionTime() {
+        return executionTimeMs;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return components <= 1;
+    }
+
+    // A spanning forest has exactly one edge fewer than vertices per component
+    @Override
+    protected int expectedEdges(Graph G) {
+        return G.V() - components;
+    }
+}
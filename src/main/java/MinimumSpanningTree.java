@@ -0,0 +1,24 @@
+import java.util.List;
+
+// Common surface of the MST engines; each one does all its work in its constructor
+public interface MinimumSpanningTree {
+    List<Edge> edges();
+
+    double weight();
+
+    long operationsCount();
+
+    double executionTime();
+
+    // Nanoseconds spent in one phase of the algorithm, 0 for phases it does not have
+    long phaseTime(SolverMetrics.Phase phase);
+
+    boolean isConnected();
+
+    // The minimum spanning forest of a disconnected graph, if the engine found it along the way
+    default MinimumSpanningForest forest() {
+        return null;
+    }
+
+    boolean check(Graph G);
+}
@@ -0,0 +1,216 @@
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+// CSR adjacency and vertex names in native memory: nothing here is seen by the garbage
+// collector, so graph size is bounded by RAM rather than -Xmx, and close() frees it all
+// at once instead of waiting for a collection. Same layout as CSRGraph, built in two
+// streaming passes over the edges, so it can be loaded from an edge file without ever
+// holding the edges on the heap. Accessors stay int-indexed like CSRGraph, which caps a
+// graph at 2^30 edges (24 GB of adjacency); the arena is shared, so engines may run on
+// several threads, but none may still be running when the graph is closed.
+public class OffHeapCSRGraph extends CSRGraph implements AutoCloseable {
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE;
+    private static final ValueLayout.OfInt FILE_INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfDouble FILE_DOUBLE = ValueLayout.JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final int MAX_EDGES = Integer.MAX_VALUE / 2;
+
+    // Replays every edge of the graph; called twice, so it must emit the same edges both times
+    @FunctionalInterface
+    public interface EdgeSource {
+        void forEachEdge(EdgeSink sink) throws IOException;
+    }
+
+    private final Arena arena;
+    private final MemorySegment nameOffsets;
+    private final MemorySegment nameBytes;
+    private final MemorySegment offsets;
+    private final MemorySegment targets;
+    private final MemorySegment weights;
+
+    private OffHeapCSRGraph(Arena arena, int V, int E, MemorySegment nameOffsets, MemorySegment nameBytes,
+                            MemorySegment offsets, MemorySegment targets, MemorySegment weights) {
+        super(V, E);
+        this.arena = arena;
+        this.nameOffsets = nameOffsets;
+        this.nameBytes = nameBytes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static OffHeapCSRGraph copyOf(CSRGraph G) {
+        List<String> names = new ArrayList<>(G.V());
+        for (int v = 0; v < G.V(); v++) {
+            names.add(G.getNodeName(v));
+        }
+        try {
+            return build(names, sink -> {
+                for (int v = 0; v < G.V(); v++) {
+                    for (int i = G.offset(v); i < G.offset(v + 1); i++) {
+                        if (G.target(i) > v) sink.edge(v, G.target(i), G.weight(i));
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    // Parsed edges are resolved by name on each pass; self-loops are dropped as buildCSRGraph does
+    public static OffHeapCSRGraph of(MSTSolver.GraphData graphData) {
+        Map<String, Integer> nodeToIndex = new HashMap<>(2 * graphData.nodes.size());
+        for (int i = 0; i < graphData.nodes.size(); i++) {
+            nodeToIndex.put(graphData.nodes.get(i), i);
+        }
+        try {
+            return build(graphData.nodes, sink -> {
+                for (MSTSolver.EdgeData edgeData : graphData.edges) {
+                    Integer v = nodeToIndex.get(edgeData.from);
+                    Integer w = nodeToIndex.get(edgeData.to);
+                    if (v == null || w == null) {
+                        throw new IllegalArgumentException("Vertex not in graph");
+                    }
+                    if (!v.equals(w)) sink.edge(v, w, edgeData.weight);
+                }
+            });
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    // An edge file as written by EdgeFileWriter, mapped and read in place
+    public static OffHeapCSRGraph load(List<String> nodes, Path edgeFile) throws IOException {
+        try (Arena mapping = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(edgeFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % EdgeFileWriter.RECORD_BYTES != 0) throw new IOException(edgeFile + " is truncated");
+            MemorySegment records = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, mapping);
+            return build(nodes, sink -> {
+                for (long at = 0; at < size; at += EdgeFileWriter.RECORD_BYTES) {
+                    int v = records.get(FILE_INT, at);
+                    int w = records.get(FILE_INT, at + 4);
+                    if (v != w) sink.edge(v, w, records.get(FILE_DOUBLE, at + 8));
+                }
+            });
+        }
+    }
+
+    // Counting sort of both edge directions, as CSRGraph.fill: degrees on the first pass,
+    // edges placed on the second; a failed build frees whatever it allocated
+    public static OffHeapCSRGraph build(List<String> nodes, EdgeSource source) throws IOException {
+        int V = nodes.size();
+        Arena arena = Arena.ofShared();
+        try (Arena scratch = Arena.ofConfined()) {
+            byte[][] encoded = new byte[V][];
+            long nameLength = 0;
+            for (int v = 0; v < V; v++) {
+                encoded[v] = nodes.get(v).getBytes(StandardCharsets.UTF_8);
+                nameLength += encoded[v].length;
+            }
+            MemorySegment nameOffsets = arena.allocate(8L * (V + 1), 8);
+            MemorySegment nameBytes = arena.allocate(Math.max(1, nameLength), 1);
+            long position = 0;
+            for (int v = 0; v < V; v++) {
+                nameOffsets.setAtIndex(ValueLayout.JAVA_LONG, v, position);
+                MemorySegment.copy(encoded[v], 0, nameBytes, ValueLayout.JAVA_BYTE, position, encoded[v].length);
+                position += encoded[v].length;
+            }
+            nameOffsets.setAtIndex(ValueLayout.JAVA_LONG, V, position);
+
+            MemorySegment offsets = arena.allocate(4L * (V + 1), 4);
+            offsets.fill((byte) 0);
+            long[] count = new long[1];
+            source.forEachEdge((v, w, weight) -> {
+                validate(v, V);
+                validate(w, V);
+                if (Double.isNaN(weight)) throw new IllegalArgumentException("Weight is NaN");
+                if (++count[0] > MAX_EDGES) throw new IllegalArgumentException("Graph has more than " + MAX_EDGES + " edges");
+                offsets.setAtIndex(INT, v + 1, offsets.getAtIndex(INT, v + 1) + 1);
+                offsets.setAtIndex(INT, w + 1, offsets.getAtIndex(INT, w + 1) + 1);
+            });
+            int E = (int) count[0];
+            for (int v = 0; v < V; v++) {
+                offsets.setAtIndex(INT, v + 1, offsets.getAtIndex(INT, v + 1) + offsets.getAtIndex(INT, v));
+            }
+
+            MemorySegment targets = arena.allocate(8L * E, 4);
+            MemorySegment weights = arena.allocate(16L * E, 8);
+            MemorySegment next = scratch.allocate(4L * Math.max(1, V), 4);
+            MemorySegment.copy(offsets, 0, next, 0, 4L * V);
+            long[] placed = new long[1];
+            source.forEachEdge((v, w, weight) -> {
+                if (++placed[0] > E) throw new IllegalStateException("Edge source changed between passes");
+                int slot = next.getAtIndex(INT, v);
+                targets.setAtIndex(INT, slot, w);
+                weights.setAtIndex(DOUBLE, slot, weight);
+                next.setAtIndex(INT, v, slot + 1);
+                slot = next.getAtIndex(INT, w);
+                targets.setAtIndex(INT, slot, v);
+                weights.setAtIndex(DOUBLE, slot, weight);
+                next.setAtIndex(INT, w, slot + 1);
+            });
+            if (placed[0] != E) throw new IllegalStateException("Edge source changed between passes");
+
+            return new OffHeapCSRGraph(arena, V, E, nameOffsets, nameBytes, offsets, targets, weights);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    private static void validate(int v, int V) {
+        if (v < 0 || v >= V) {
+            throw new IllegalArgumentException("index " + v + " is not between 0 and " + (V - 1));
+        }
+    }
+
+    // Native bytes held by the graph
+    public long byteSize() {
+        return nameOffsets.byteSize() + nameBytes.byteSize() + offsets.byteSize()
+                + targets.byteSize() + weights.byteSize();
+    }
+
+    public boolean isOpen() {
+        return arena.scope().isAlive();
+    }
+
+    // Frees the native memory; any later access throws IllegalStateException
+    @Override
+    public void close() {
+        if (isOpen()) arena.close();
+    }
+
+    @Override
+    public int offset(int v) {
+        return offsets.getAtIndex(INT, v);
+    }
+
+    @Override
+    public int target(int i) {
+        return targets.getAtIndex(INT, i);
+    }
+
+    @Override
+    public double weight(int i) {
+        return weights.getAtIndex(DOUBLE, i);
+    }
+
+    // Names are decoded on demand, only result edges need them
+    @Override
+    public String getNodeName(int index) {
+        validate(index);
+        long start = nameOffsets.getAtIndex(ValueLayout.JAVA_LONG, index);
+        long end = nameOffsets.getAtIndex(ValueLayout.JAVA_LONG, index + 1);
+        byte[] bytes = new byte[(int) (end - start)];
+        MemorySegment.copy(nameBytes, ValueLayout.JAVA_BYTE, start, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
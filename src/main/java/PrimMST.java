@@ -1,22 +1,18 @@
 import java.util.*;
 
-public class PrimMST {
-    private static final double EPSILON = 1.0E-12;
-
-    private List<Edge> mstEdges;
-    private double totalCost;
-    private int operationsCount;
+public final class PrimMST extends AbstractSpanningTree {
+    private long operationsCount;
+    private long heapNanos;
     private double executionTimeMs;
-    private boolean isConnected;
 
     public PrimMST(Graph G) {
         long startTime = System.nanoTime();
         this.mstEdges = new ArrayList<>();
         this.totalCost = 0.0;
         this.operationsCount = 0;
-        this.isConnected = G.isConnected();
+        this.isConnected = true;
 
-        if (!isConnected || G.V() == 0) {
+        if (G.V() == 0) {
             long endTime = System.nanoTime();
             this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
             return;
@@ -40,6 +36,7 @@ public class PrimMST {
         pq.offer(new NodeDistance(startNode, 0.0));
         operationsCount++; // insert operation
 
+        long heapStart = System.nanoTime();
         while (!pq.isEmpty()) {
             NodeDistance current = pq.poll();
             String v = current.node;
@@ -73,28 +70,96 @@ public class PrimMST {
             }
         }
 
+        this.heapNanos = System.nanoTime() - heapStart;
+
+        // The tree reached every vertex iff the graph is connected; no separate BFS needed
+        finish(marked.size() == G.V());
+
         long endTime = System.nanoTime();
         this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
     }
 
-    public List<Edge> edges() {
-        return new ArrayList<>(mstEdges);
-    }
+    public PrimMST(CSRGraph G) {
+        long startTime = System.nanoTime();
+        this.mstEdges = new ArrayList<>();
+        this.totalCost = 0.0;
+        this.operationsCount = 0;
+        this.isConnected = true;
 
-    public double weight() {
-        return totalCost;
+        if (G.V() == 0) {
+            long endTime = System.nanoTime();
+            this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
+            return;
+        }
+
+        double[] distTo = new double[G.V()];
+        int[] edgeTo = new int[G.V()];
+        boolean[] marked = new boolean[G.V()];
+        PriorityQueue<IndexDistance> pq = new PriorityQueue<>();
+
+        // Initialize distances
+        for (int v = 0; v < G.V(); v++) {
+            distTo[v] = Double.POSITIVE_INFINITY;
+            edgeTo[v] = -1;
+            operationsCount++; // initialization operation
+        }
+
+        // Start from first vertex
+        distTo[0] = 0.0;
+        pq.offer(new IndexDistance(0, 0.0));
+        operationsCount++; // insert operation
+
+        long heapStart = System.nanoTime();
+        while (!pq.isEmpty()) {
+            int v = pq.poll().node;
+            operationsCount++; // delete-min operation
+
+            if (marked[v]) continue;
+            marked[v] = true;
+
+            // Add edge to MST (except for starting vertex)
+            if (edgeTo[v] != -1) {
+                mstEdges.add(new Edge(G.getNodeName(edgeTo[v]), G.getNodeName(v), distTo[v]));
+                totalCost += distTo[v];
+            }
+
+            // Scan adjacent edges
+            for (int i = G.offset(v); i < G.offset(v + 1); i++) {
+                int w = G.target(i);
+                operationsCount++; // edge examination
+
+                if (marked[w]) continue;
+
+                double weight = G.weight(i);
+                operationsCount++; // comparison operation
+
+                if (weight < distTo[w]) {
+                    distTo[w] = weight;
+                    edgeTo[w] = v;
+                    pq.offer(new IndexDistance(w, weight));
+                    operationsCount++; // priority queue update
+                }
+            }
+        }
+
+        this.heapNanos = System.nanoTime() - heapStart;
+
+        finish(mstEdges.size() == G.V() - 1);
+
+        long endTime = System.nanoTime();
+        this.executionTimeMs = (endTime - startTime) / 1_000_000.0;
     }
 
-    public int operationsCount() {
+    public long operationsCount() {
         return operationsCount;
     }
 
-    public double executionTime() {
-        return executionTimeMs;
+    public long phaseTime(SolverMetrics.Phase phase) {
+        return phase == SolverMetrics.Phase.HEAP ? heapNanos : 0;
     }
 
-    public boolean isConnected() {
-        return isConnected;
+    public double executionTime() {
+        return executionTimeMs;
     }
 
     private static class NodeDistance implements Comparable<NodeDistance> {
@@ -112,35 +177,18 @@ public class PrimMST {
         }
     }
 
-    public boolean check(Graph G) {
-        // Check total weight
-        double total = 0.0;
-        for (Edge e : edges()) {
-            total += e.weight();
-        }
-        if (Math.abs(total - weight()) > EPSILON) {
-            return false;
-        }
+    private static class IndexDistance implements Comparable<IndexDistance> {
+        int node;
+        double distance;
 
-        // Check number of edges
-        if (isConnected && edges().size() != G.V() - 1) {
-            return false;
+        IndexDistance(int node, double distance) {
+            this.node = node;
+            this.distance = distance;
         }
 
-        // Check acyclic using Union-Find
-        UnionFind uf = new UnionFind(G.V());
-        for (Edge e : edges()) {
-            String v = e.either();
-            String w = e.other(v);
-            int vIdx = G.getNodeIndex(v);
-            int wIdx = G.getNodeIndex(w);
-
-            if (uf.connected(vIdx, wIdx)) {
-                return false; // cycle detected
-            }
-            uf.union(vIdx, wIdx);
+        @Override
+        public int compareTo(IndexDistance other) {
+            return Double.compare(this.distance, other.distance);
         }
-
-        return true;
     }
 }
@@ -0,0 +1,390 @@
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+// Solved graphs by content: the key is a 128-bit hash of the node list (in order, since
+// indices name the vertices) and the edge multiset (in any order, either orientation),
+// so an unchanged graph is answered without building or solving it again.
+// Two LRU tiers, each capped at a size in bytes: results in memory, for a solver that stays
+// up across batches, over one file per result in a directory.
+// Safe for concurrent use; a cache that cannot be read or written only costs a miss.
+public class ResultCache {
+    public static final String EXTENSION = ".result";
+    public static final long DEFAULT_MAX_BYTES = 256L << 20;
+    public static final long DEFAULT_MEMORY_BYTES = 64L << 20;
+    // Rough heap cost of a cached edge: the Edge, its list slot and two short vertex names
+    private static final int EDGE_BYTES = 128;
+    private static final int RESULT_BYTES = 256;
+    private static final int MAGIC = 0x4D535452;
+    private static final int VERSION = 1;
+    private static final long C1 = 0x9E3779B97F4A7C15L;
+    private static final long C2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxMemoryBytes;
+    private final LinkedHashMap<String, MSTSolver.ResultData> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    // Size of every file on disk, least recently used first
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskBytes;
+
+    // In memory only
+    public ResultCache(long maxMemoryBytes) {
+        this.directory = null;
+        this.maxBytes = 0;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    public ResultCache(Path directory) throws IOException {
+        this(directory, DEFAULT_MAX_BYTES, DEFAULT_MEMORY_BYTES);
+    }
+
+    public ResultCache(Path directory, long maxBytes, long maxMemoryBytes) throws IOException {
+        if (maxBytes < 0) throw new IllegalArgumentException("Cache size must not be negative");
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.maxMemoryBytes = maxMemoryBytes;
+        Files.createDirectories(directory);
+
+        // Recency survives restarts as the file's modification time, which hits refresh
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : stream) files.add(file);
+        }
+        Map<Path, Long> modified = new HashMap<>();
+        for (Path file : files) {
+            modified.put(file, Files.getLastModifiedTime(file).toMillis());
+        }
+        files.sort(Comparator.comparingLong(modified::get));
+        synchronized (this) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long size = Files.size(file);
+                disk.put(name.substring(0, name.length() - EXTENSION.length()), size);
+                diskBytes += size;
+            }
+            evict();
+        }
+    }
+
+    // The mode names everything besides the graph that shapes a result, e.g. the engines run
+    public static String key(MSTSolver.GraphData data, String mode) {
+        long n1 = C1;
+        long n2 = C2;
+        for (String node : data.nodes) {
+            long h = hash(node);
+            n1 = mix(n1 + h);
+            n2 = mix(n2 ^ (h * C1));
+        }
+
+        // Summing per-edge hashes is order independent and, unlike xor, keeps duplicates
+        long e1 = 0;
+        long e2 = 0;
+        long edges = 0;
+        if (data.points != null) {
+            for (double c : data.points) {
+                long bits = Double.doubleToLongBits(c + 0.0);
+                e1 = mix(e1 + bits);
+                e2 = mix(e2 ^ (bits * C2));
+            }
+            edges = data.dimension;
+        } else {
+            for (MSTSolver.EdgeData edge : data.edges) {
+                // Self-loops never make it into a graph
+                if (edge.from.equals(edge.to)) continue;
+                long a = hash(edge.from);
+                long b = hash(edge.to);
+                long low = Math.min(a, b);
+                long high = Math.max(a, b);
+                long w = Double.doubleToLongBits(edge.weight + 0.0);
+                e1 += mix(mix(mix(low) ^ high) ^ w);
+                e2 += mix(mix(mix(high + C1) ^ low) + (w ^ C2));
+                edges++;
+            }
+        }
+
+        long m = hash(mode);
+        long k1 = mix(n1 ^ mix(e1 + edges) ^ m);
+        long k2 = mix(n2 ^ mix(e2 ^ (edges * C2)) ^ mix(m + C1));
+        return String.format("%016x%016x", k1, k2);
+    }
+
+    // FNV-1a over the chars, finished with a full avalanche
+    private static long hash(String s) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h ^ s.length());
+    }
+
+    // MurmurHash3 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    // The cached result relabelled as graphId, or null on a miss
+    public MSTSolver.ResultData get(String key, int graphId) {
+        MSTSolver.ResultData result;
+        boolean onDisk;
+        synchronized (this) {
+            result = memory.get(key);
+            // Looked up in both tiers, so a result served from memory stays recent on disk too
+            onDisk = directory != null && disk.get(key) != null;
+            if (result == null && !onDisk) return null;
+        }
+        if (result != null) {
+            if (onDisk) {
+                try {
+                    touch(fileFor(key));
+                } catch (IOException ignored) {
+                    // Evicted meanwhile, the memory tier still answers
+                }
+            }
+            return result.withGraphId(graphId);
+        }
+
+        Path file = fileFor(key);
+        try {
+            result = read(file);
+            touch(file);
+        } catch (IOException e) {
+            // Evicted meanwhile, or a partial or foreign file
+            remove(key);
+            return null;
+        }
+        synchronized (this) {
+            remember(key, result);
+        }
+        return result.withGraphId(graphId);
+    }
+
+    private static void touch(Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    public void put(String key, MSTSolver.ResultData result) {
+        synchronized (this) {
+            remember(key, result);
+        }
+        if (directory == null) return;
+
+        Path file = fileFor(key);
+        long size;
+        try {
+            // Readers only ever see complete files
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                write(temp, result);
+                size = Files.size(temp);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not cache result for graph " + result.graphId + ": " + e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            Long previous = disk.put(key, size);
+            diskBytes += size - (previous == null ? 0 : previous);
+            evict();
+        }
+    }
+
+    public synchronized int memorySize() {
+        return memory.size();
+    }
+
+    public synchronized long memoryBytes() {
+        return memoryBytes;
+    }
+
+    public synchronized int diskEntries() {
+        return disk.size();
+    }
+
+    public synchronized long diskBytes() {
+        return diskBytes;
+    }
+
+    private void remember(String key, MSTSolver.ResultData result) {
+        long bytes = estimateBytes(result);
+        if (bytes > maxMemoryBytes) return;
+        MSTSolver.ResultData previous = memory.put(key, result.withGraphId(0));
+        memoryBytes += bytes - (previous == null ? 0 : estimateBytes(previous));
+        Iterator<MSTSolver.ResultData> eldest = memory.values().iterator();
+        while (memoryBytes > maxMemoryBytes) {
+            memoryBytes -= estimateBytes(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    // Dominated by the Edge objects of the trees and forest, plus the forest's per-vertex labels
+    static long estimateBytes(MSTSolver.ResultData r) {
+        long edges = size(r.primEdges) + size(r.kruskalEdges) + size(r.mstEdges);
+        long bytes = RESULT_BYTES;
+        if (r.forest != null) {
+            // One edge fewer than vertices per component, each also referenced from the component buckets
+            long forestEdges = r.vertices - r.forest.componentCount();
+            edges += forestEdges;
+            bytes += 8L * forestEdges + 4L * r.vertices + 16L * r.forest.componentCount();
+        }
+        return bytes + EDGE_BYTES * edges;
+    }
+
+    private static long size(List<Edge> edges) {
+        return edges == null ? 0 : edges.size();
+    }
+
+    private synchronized void remove(String key) {
+        Long size = disk.remove(key);
+        if (size != null) diskBytes -= size;
+        try {
+            Files.deleteIfExists(fileFor(key));
+        } catch (IOException ignored) {
+            // Retried on the next eviction
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> eldest = disk.entrySet().iterator();
+        while (diskBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            try {
+                Files.deleteIfExists(fileFor(entry.getKey()));
+            } catch (IOException e) {
+                continue;
+            }
+            diskBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    private Path fileFor(String key) {
+        return directory.resolve(key + EXTENSION);
+    }
+
+    private static void write(Path file, MSTSolver.ResultData r) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(r.vertices);
+            out.writeLong(r.totalEdges);
+            out.writeBoolean(r.connected);
+            out.writeBoolean(r.algorithm != null);
+            if (r.algorithm != null) {
+                out.writeUTF(r.algorithm);
+                writeEngine(out, r.mstEdges, r.mstCost, r.mstOps, r.mstTime);
+                out.writeBoolean(r.crossCheckAlgorithm != null);
+                if (r.crossCheckAlgorithm != null) {
+                    out.writeUTF(r.crossCheckAlgorithm);
+                    out.writeDouble(r.crossCheckCost);
+                }
+            } else {
+                writeEngine(out, r.primEdges, r.primCost, r.primOps, r.primTime);
+                writeEngine(out, r.kruskalEdges, r.kruskalCost, r.kruskalOps, r.kruskalTime);
+            }
+
+            MinimumSpanningForest forest = r.forest;
+            out.writeBoolean(forest != null);
+            if (forest != null) {
+                out.writeDouble(forest.weight());
+                out.writeLong(forest.operationsCount());
+                out.writeDouble(forest.executionTime());
+                out.writeInt(forest.componentCount());
+                for (int c = 0; c < forest.componentCount(); c++) {
+                    writeEdges(out, forest.componentEdges(c));
+                }
+                for (int v = 0; v < r.vertices; v++) {
+                    out.writeInt(forest.component(v));
+                }
+            }
+        }
+    }
+
+    private static void writeEngine(DataOutputStream out, List<Edge> edges, double cost, long ops, double time)
+            throws IOException {
+        writeEdges(out, edges);
+        out.writeDouble(cost);
+        out.writeLong(ops);
+        out.writeDouble(time);
+    }
+
+    private static void writeEdges(DataOutputStream out, List<Edge> edges) throws IOException {
+        out.writeInt(edges.size());
+        for (Edge e : edges) {
+            String v = e.either();
+            out.writeUTF(v);
+            out.writeUTF(e.other(v));
+            out.writeDouble(e.weight());
+        }
+    }
+
+    private static MSTSolver.ResultData read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) throw new IOException("Not a cached result: " + file);
+            MSTSolver.ResultData r = new MSTSolver.ResultData();
+            r.vertices = in.readInt();
+            r.totalEdges = in.readLong();
+            r.connected = in.readBoolean();
+            if (in.readBoolean()) {
+                r.algorithm = in.readUTF();
+                r.mstEdges = readEdges(in);
+                r.mstCost = in.readDouble();
+                r.mstOps = in.readLong();
+                r.mstTime = in.readDouble();
+                if (in.readBoolean()) {
+                    r.crossCheckAlgorithm = in.readUTF();
+                    r.crossCheckCost = in.readDouble();
+                }
+            } else {
+                r.primEdges = readEdges(in);
+                r.primCost = in.readDouble();
+                r.primOps = in.readLong();
+                r.primTime = in.readDouble();
+                r.kruskalEdges = readEdges(in);
+                r.kruskalCost = in.readDouble();
+                r.kruskalOps = in.readLong();
+                r.kruskalTime = in.readDouble();
+            }
+
+            if (in.readBoolean()) {
+                double cost = in.readDouble();
+                long ops = in.readLong();
+                double time = in.readDouble();
+                int components = in.readInt();
+                List<Edge> edges = new ArrayList<>();
+                int[] edgeComponent = new int[Math.max(0, r.vertices - components)];
+                for (int c = 0; c < components; c++) {
+                    for (Edge e : readEdges(in)) {
+                        edgeComponent[edges.size()] = c;
+                        edges.add(e);
+                    }
+                }
+                int[] componentOf = new int[r.vertices];
+                for (int v = 0; v < r.vertices; v++) {
+                    componentOf[v] = in.readInt();
+                }
+                r.forest = new MinimumSpanningForest(edges, edgeComponent, componentOf, components, cost, ops, time);
+            }
+            return r;
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt cached result: " + file, e);
+        }
+    }
+
+    private static List<Edge> readEdges(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0) throw new IOException("Negative edge count");
+        List<Edge> edges = new ArrayList<>(Math.min(n, 1 << 16));
+        for (int i = 0; i < n; i++) {
+            edges.add(new Edge(in.readUTF(), in.readUTF(), in.readDouble()));
+        }
+        return edges;
+    }
+}
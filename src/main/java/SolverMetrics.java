@@ -0,0 +1,196 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// Where a solver run spends its time: a latency histogram per phase across the batch,
+// long counters, a JSON export next to the output file and JFR events per phase and graph.
+// Recording is a few atomic adds per phase and graph; events cost nothing unless JFR is on.
+public class SolverMetrics {
+
+    public enum Phase {
+        PARSE("parse"),
+        BUILD("build"),
+        CONNECTIVITY("connectivity"),
+        SORT("sort"),
+        UNION_FIND("union_find"),
+        HEAP("heap"),
+        WRITE("write");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+    private final LongAdder graphs = new LongAdder();
+    private final LongAdder vertices = new LongAdder();
+    private final LongAdder edges = new LongAdder();
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final long startTime = System.nanoTime();
+
+    public SolverMetrics() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+    }
+
+    public void record(Phase phase, int graphId, long nanos) {
+        phases[phase.ordinal()].record(nanos);
+        PhaseEvent event = new PhaseEvent();
+        if (event.isEnabled()) {
+            event.phase = phase.label();
+            event.graphId = graphId;
+            event.time = nanos;
+            event.commit();
+        }
+    }
+
+    public <T> T time(Phase phase, int graphId, Supplier<T> work) {
+        long start = System.nanoTime();
+        T value = work.get();
+        record(phase, graphId, System.nanoTime() - start);
+        return value;
+    }
+
+    // The algorithm phases an engine timed, plus its operation count
+    public void record(int graphId, MinimumSpanningTree mst) {
+        for (Phase phase : Phase.values()) {
+            long nanos = mst.phaseTime(phase);
+            if (nanos > 0) record(phase, graphId, nanos);
+        }
+        operations.add(mst.operationsCount());
+    }
+
+    public void graphSolved(MSTSolver.ResultData result) {
+        graphs.increment();
+        vertices.add(result.vertices);
+        edges.add(result.totalEdges);
+        GraphEvent event = new GraphEvent();
+        if (event.isEnabled()) {
+            event.graphId = result.graphId;
+            event.vertices = result.vertices;
+            event.edges = result.totalEdges;
+            event.connected = result.connected;
+            event.algorithm = result.algorithm != null ? result.algorithm : "prim+kruskal";
+            event.commit();
+        }
+    }
+
+    public void cacheLookup(boolean hit) {
+        (hit ? cacheHits : cacheMisses).increment();
+    }
+
+    public long cacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long cacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public LatencyHistogram histogram(Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    public long graphs() {
+        return graphs.sum();
+    }
+
+    public long operations() {
+        return operations.sum();
+    }
+
+    // output.json -> output.metrics.json
+    public static File fileFor(String outputFile) {
+        String base = outputFile.endsWith(".json") ? outputFile.substring(0, outputFile.length() - 5) : outputFile;
+        return new File(base + ".metrics.json");
+    }
+
+    public void writeJson(File file) throws IOException {
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writeJson(out);
+        }
+    }
+
+    public void writeJson(Writer out) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"graphs\": ").append(graphs.sum()).append(",\n");
+        json.append("  \"vertices\": ").append(vertices.sum()).append(",\n");
+        json.append("  \"edges\": ").append(edges.sum()).append(",\n");
+        json.append("  \"operations\": ").append(operations.sum()).append(",\n");
+        json.append("  \"cache_hits\": ").append(cacheHits.sum()).append(",\n");
+        json.append("  \"cache_misses\": ").append(cacheMisses.sum()).append(",\n");
+        json.append("  \"wall_time_ms\": ").append(millis(System.nanoTime() - startTime)).append(",\n");
+        json.append("  \"phases\": {");
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram h = histogram(phase);
+            json.append(phase.ordinal() == 0 ? "\n" : ",\n");
+            json.append("    \"").append(phase.label()).append("\": {");
+            json.append("\"count\": ").append(h.count());
+            json.append(", \"total_ms\": ").append(millis(h.sum()));
+            json.append(", \"mean_ms\": ").append(millis(h.mean()));
+            json.append(", \"min_ms\": ").append(millis(h.min()));
+            json.append(", \"p50_ms\": ").append(millis(h.percentile(50)));
+            json.append(", \"p90_ms\": ").append(millis(h.percentile(90)));
+            json.append(", \"p99_ms\": ").append(millis(h.percentile(99)));
+            json.append(", \"max_ms\": ").append(millis(h.max()));
+            json.append('}');
+        }
+        json.append("\n  }\n}\n");
+        out.write(json.toString());
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Name("mst.SolverPhase")
+    @Label("MST Solver Phase")
+    @Category("MST Solver")
+    static class PhaseEvent extends Event {
+        @Label("Phase")
+        String phase;
+
+        @Label("Graph Id")
+        int graphId;
+
+        @Label("Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long time;
+    }
+
+    @Name("mst.GraphSolved")
+    @Label("MST Graph Solved")
+    @Category("MST Solver")
+    static class GraphEvent extends Event {
+        @Label("Graph Id")
+        int graphId;
+
+        @Label("Vertices")
+        int vertices;
+
+        @Label("Edges")
+        long edges;
+
+        @Label("Connected")
+        boolean connected;
+
+        @Label("Algorithm")
+        String algorithm;
+    }
+}
@@ -1,4 +1,4 @@
-public class UnionFind {
+public class UnionFind implements DisjointSet {
     private int[] parent;
     private int[] rank;
     private int count;
@@ -0,0 +1,5 @@
+@FunctionalInterface
+public interface WeightFunction {
+    // Weight of edge i-j, or Double.POSITIVE_INFINITY if there is no such edge
+    double weight(int i, int j);
+}
@@ -0,0 +1,166 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentUnionFindTest {
+    private static final int THREADS = 8;
+
+    @Test
+    public void testSequentialBehaviourMatchesUnionFind() {
+        ConcurrentUnionFind cuf = new ConcurrentUnionFind(10);
+        UnionFind uf = new UnionFind(10);
+        int[][] pairs = {{0, 1}, {2, 3}, {1, 3}, {4, 5}, {0, 2}, {6, 7}, {8, 9}, {7, 9}};
+
+        for (int[] pair : pairs) {
+            assertEquals(!uf.connected(pair[0], pair[1]), cuf.unite(pair[0], pair[1]));
+            uf.union(pair[0], pair[1]);
+        }
+
+        assertEquals(uf.count(), cuf.count());
+        for (int p = 0; p < 10; p++) {
+            for (int q = 0; q < 10; q++) {
+                assertEquals(uf.connected(p, q), cuf.connected(p, q));
+            }
+        }
+        System.out.println("✓ Test passed: Concurrent UnionFind matches UnionFind sequentially");
+    }
+
+    @Test
+    public void testConcurrentUnionsGiveSamePartition() throws Exception {
+        int n = 20000;
+        int[][] pairs = randomPairs(n, 15000, 7);
+
+        ConcurrentUnionFind cuf = new ConcurrentUnionFind(n);
+        AtomicInteger merges = new AtomicInteger();
+        runConcurrently(THREADS, t -> {
+            for (int i = t; i < pairs.length; i += THREADS) {
+                if (cuf.unite(pairs[i][0], pairs[i][1])) merges.incrementAndGet();
+            }
+        });
+
+        UnionFind uf = new UnionFind(n);
+        for (int[] pair : pairs) {
+            uf.union(pair[0], pair[1]);
+        }
+
+        assertEquals(uf.count(), cuf.count(), "component count should match");
+        assertEquals(n - uf.count(), merges.get(), "every merge should be reported exactly once");
+        Map<Integer, Integer> rootMap = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            Integer previous = rootMap.putIfAbsent(uf.find(v), cuf.find(v));
+            if (previous != null) {
+                assertEquals(previous.intValue(), cuf.find(v), "vertex " + v + " is in the wrong set");
+            }
+        }
+        System.out.println("✓ Test passed: Concurrent unions give the same partition");
+    }
+
+    @Test
+    public void testConnectedIsLinearizableUnderContention() throws Exception {
+        int n = 5000;
+        int[][] pairs = randomPairs(n, 20000, 11);
+        ConcurrentUnionFind cuf = new ConcurrentUnionFind(n);
+
+        // Writers publish how many unions have completed; unions with a smaller
+        // sequence number finished before a reader looked at the counter
+        AtomicInteger next = new AtomicInteger();
+        int[] done = new int[pairs.length];
+        AtomicInteger completed = new AtomicInteger();
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+        int writers = THREADS / 2;
+
+        runConcurrently(THREADS, t -> {
+            if (t < writers) {
+                int i;
+                while ((i = next.getAndIncrement()) < pairs.length) {
+                    cuf.unite(pairs[i][0], pairs[i][1]);
+                    synchronized (done) {
+                        done[completed.get()] = i;
+                        completed.incrementAndGet();
+                    }
+                }
+            } else {
+                Random random = new Random(t);
+                Set<Long> seenConnected = new HashSet<>();
+                while (completed.get() < pairs.length) {
+                    // A pair whose union already completed must be reported connected
+                    int k = completed.get();
+                    if (k > 0) {
+                        int[] pair;
+                        synchronized (done) {
+                            pair = pairs[done[random.nextInt(k)]];
+                        }
+                        if (!cuf.connected(pair[0], pair[1])) {
+                            violations.add("completed union " + Arrays.toString(pair) + " not visible");
+                        }
+                    }
+
+                    // Once two vertices are reported connected they must stay connected
+                    int p = random.nextInt(n);
+                    int q = random.nextInt(n);
+                    long key = (long) Math.min(p, q) * n + Math.max(p, q);
+                    boolean connected = cuf.connected(p, q);
+                    if (!connected && seenConnected.contains(key)) {
+                        violations.add("pair " + p + "-" + q + " became disconnected");
+                    }
+                    if (connected) seenConnected.add(key);
+                }
+                for (long key : seenConnected) {
+                    int p = (int) (key / n);
+                    int q = (int) (key % n);
+                    if (!cuf.connected(p, q)) {
+                        violations.add("pair " + p + "-" + q + " lost connectivity");
+                    }
+                }
+            }
+        });
+
+        assertTrue(violations.isEmpty(), "linearizability violations: " + violations);
+
+        UnionFind uf = new UnionFind(n);
+        for (int[] pair : pairs) {
+            uf.union(pair[0], pair[1]);
+        }
+        assertEquals(uf.count(), cuf.count());
+        System.out.println("✓ Test passed: connected() is linearizable under contention");
+    }
+
+    private static int[][] randomPairs(int n, int count, long seed) {
+        Random random = new Random(seed);
+        int[][] pairs = new int[count][2];
+        for (int i = 0; i < count; i++) {
+            pairs[i][0] = random.nextInt(n);
+            pairs[i][1] = random.nextInt(n);
+        }
+        return pairs;
+    }
+
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(int threads, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                worker.run(id);
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,6 +2,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class MSTTest {
 
@@ -210,7 +211,963 @@ public class MSTTest {
         System.out.println("✓ Test passed: Medium graph (10 vertices)");
     }
 
+    @Test
+    public void testCSRGraphSameCost() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D", "E");
+        Graph graph = new Graph(nodes);
+
+        graph.addEdge(new Edge("A", "B", 4));
+        graph.addEdge(new Edge("A", "C", 3));
+        graph.addEdge(new Edge("B", "C", 2));
+        graph.addEdge(new Edge("B", "D", 5));
+        graph.addEdge(new Edge("C", "D", 7));
+        graph.addEdge(new Edge("C", "E", 8));
+        graph.addEdge(new Edge("D", "E", 6));
+
+        CSRGraph csr = new CSRGraph(graph);
+        assertEquals(graph.V(), csr.V());
+        assertEquals(graph.E(), csr.E());
+        assertTrue(csr.isConnected(), "CSR graph should be connected");
+
+        PrimMST primMST = new PrimMST(csr);
+        KruskalMST kruskalMST = new KruskalMST(csr);
+
+        assertEquals(new PrimMST(graph).weight(), primMST.weight(), 0.01);
+        assertEquals(primMST.weight(), kruskalMST.weight(), 0.01);
+        assertTrue(connectsAllVertices(graph, primMST.edges()),
+                "CSR Prim's MST should connect all vertices");
+        assertTrue(connectsAllVertices(graph, kruskalMST.edges()),
+                "CSR Kruskal's MST should connect all vertices");
+        System.out.println("✓ Test passed: CSR graph gives same cost");
+    }
+
+    @Test
+    public void testCSRGraphDisconnected() {
+        String[] names = {"A", "B", "C", "D"};
+        CSRGraph csr = new CSRGraph(names, new int[]{0, 2}, new int[]{1, 3}, new double[]{1, 2});
+
+        assertFalse(csr.isConnected(), "CSR graph should be disconnected");
+        assertFalse(new PrimMST(csr).isConnected());
+        assertFalse(new KruskalMST(csr).isConnected());
+        System.out.println("✓ Test passed: Disconnected CSR graph handled correctly");
+    }
+
+    @Test
+    public void testEagerPrimArities() {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            nodes.add("V" + i);
+        }
+        Graph graph = new Graph(nodes);
+
+        graph.addEdge(new Edge("V0", "V1", 2));
+        graph.addEdge(new Edge("V0", "V2", 3));
+        graph.addEdge(new Edge("V1", "V2", 1));
+        graph.addEdge(new Edge("V1", "V3", 4));
+        graph.addEdge(new Edge("V2", "V4", 5));
+        graph.addEdge(new Edge("V3", "V5", 2));
+        graph.addEdge(new Edge("V4", "V5", 3));
+        graph.addEdge(new Edge("V4", "V6", 6));
+        graph.addEdge(new Edge("V5", "V7", 4));
+        graph.addEdge(new Edge("V6", "V7", 2));
+        graph.addEdge(new Edge("V6", "V8", 7));
+        graph.addEdge(new Edge("V7", "V9", 3));
+        graph.addEdge(new Edge("V8", "V9", 5));
+
+        double expected = new KruskalMST(graph).weight();
+        CSRGraph csr = new CSRGraph(graph);
+        for (int arity : new int[]{2, 4, 8}) {
+            EagerPrimMST eager = new EagerPrimMST(csr, arity);
+            assertEquals(expected, eager.weight(), 0.01,
+                    "Eager Prim with arity " + arity + " should match Kruskal");
+            assertTrue(eager.check(graph), "Eager Prim's MST should pass check()");
+        }
+        System.out.println("✓ Test passed: Eager Prim with 2/4/8-ary heap");
+    }
+
+    @Test
+    public void testDensePrimOnCompleteGraph() {
+        double[][] points = {{0, 0}, {3, 4}, {6, 0}, {1, 7}, {8, 8}, {4, 2}};
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < points.length; i++) {
+            nodes.add("P" + i);
+        }
+        WeightFunction distance = (i, j) -> Math.hypot(points[i][0] - points[j][0], points[i][1] - points[j][1]);
+
+        Graph graph = new Graph(nodes);
+        for (int i = 0; i < points.length; i++) {
+            for (int j = i + 1; j < points.length; j++) {
+                graph.addEdge(new Edge(nodes.get(i), nodes.get(j), distance.weight(i, j)));
+            }
+        }
+        assertTrue(DensePrimMST.isDense(graph.V(), graph.E()), "Complete graph should be dense");
+
+        DensePrimMST fromFunction = new DensePrimMST(nodes, distance);
+        DensePrimMST fromGraph = new DensePrimMST(graph);
+        KruskalMST kruskalMST = new KruskalMST(graph);
+
+        assertEquals(kruskalMST.weight(), fromFunction.weight(), 1e-9);
+        assertEquals(kruskalMST.weight(), fromGraph.weight(), 1e-9);
+        assertTrue(fromFunction.check(graph), "Dense Prim's MST should pass check()");
+        System.out.println("✓ Test passed: Dense Prim on complete graph");
+    }
+
+    @Test
+    public void testBoruvkaMatchesKruskal() {
+        Random random = new Random(42);
+        int n = 2000;
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            nodes.add("V" + i);
+        }
+        Graph graph = new Graph(nodes);
+        for (int i = 1; i < n; i++) {
+            graph.addEdge(new Edge("V" + i, "V" + random.nextInt(i), random.nextInt(100) + 1));
+        }
+        for (int i = 0; i < 20000; i++) {
+            graph.addEdge(new Edge("V" + random.nextInt(n), "V" + random.nextInt(n), random.nextInt(100) + 1));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BoruvkaMST boruvkaMST = new BoruvkaMST(new CSRGraph(graph), pool);
+            KruskalMST kruskalMST = new KruskalMST(graph);
+
+            assertEquals(kruskalMST.weight(), boruvkaMST.weight(), 0.01,
+                    "Borůvka and Kruskal should produce same total cost");
+            assertTrue(boruvkaMST.check(graph), "Borůvka's MST should pass check()");
+        } finally {
+            pool.shutdown();
+        }
+        System.out.println("✓ Test passed: Parallel Borůvka matches Kruskal");
+    }
+
+    @Test
+    public void testFilterKruskalMatchesKruskal() {
+        Random random = new Random(7);
+        int n = 5000;
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            nodes.add("V" + i);
+        }
+        Graph graph = new Graph(nodes);
+        for (int i = 1; i < n; i++) {
+            graph.addEdge(new Edge("V" + i, "V" + random.nextInt(i), random.nextInt(1000) + 1));
+        }
+        for (int i = 0; i < 100000; i++) {
+            graph.addEdge(new Edge("V" + random.nextInt(n), "V" + random.nextInt(n), random.nextInt(1000) + 1));
+        }
+
+        CSRGraph csr = new CSRGraph(graph);
+        KruskalMST kruskalMST = new KruskalMST(csr);
+        FilterKruskalMST sequential = new FilterKruskalMST(csr, false);
+        FilterKruskalMST parallel = new FilterKruskalMST(csr, true);
+
+        assertEquals(kruskalMST.weight(), sequential.weight(), 0.01);
+        assertEquals(kruskalMST.weight(), parallel.weight(), 0.01);
+        assertTrue(sequential.check(graph), "Filter-Kruskal's MST should pass check()");
+        assertTrue(parallel.check(graph), "Parallel Filter-Kruskal's MST should pass check()");
+        System.out.println("✓ Test passed: Filter-Kruskal matches Kruskal");
+    }
+
+    @Test
+    public void testEdgeListRadixSort() {
+        EdgeList integral = new EdgeList(4, 2);
+        double[] ints = {7, 3, 3, 12, 1, 9};
+        for (int i = 0; i < ints.length; i++) {
+            integral.add(i % 4, (i + 1) % 4, ints[i]);
+        }
+        assertTrue(integral.hasIntegralWeights());
+        integral.sortByWeight();
+        assertEquals(1.0, integral.weight(0), 0.0);
+        assertEquals(12.0, integral.weight(ints.length - 1), 0.0);
+        // Equal weights keep their input order
+        assertEquals(1, integral.from(1));
+        assertEquals(2, integral.from(2));
+
+        Random random = new Random(3);
+        EdgeList fractional = new EdgeList(10, 0);
+        for (int i = 0; i < 1000; i++) {
+            fractional.add(random.nextInt(10), random.nextInt(10), random.nextGaussian() * 100);
+        }
+        assertFalse(fractional.hasIntegralWeights());
+        fractional.sortByWeight();
+        for (int i = 1; i < fractional.size(); i++) {
+            assertTrue(fractional.weight(i - 1) <= fractional.weight(i), "weights should be sorted");
+        }
+        System.out.println("✓ Test passed: EdgeList radix sort");
+    }
+
+    @Test
+    public void testJsonGraphReaderStreamsGraphs() throws Exception {
+        String json = "{\"meta\": {\"skip\": [1, {\"x\": \"]\"}]}, \"graphs\": [\n"
+                + "  {\"id\": 1, \"description\": \"a \\\"quoted\\\" graph\", \"nodes\": [\"A\", \"B\", \"C\"],\n"
+                + "   \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 4},\n"
+                + "             {\"from\": \"B\", \"to\": \"C\", \"weight\": -2.5e0}]},\n"
+                + "  {\"id\": 2, \"nodes\": [], \"edges\": []}\n"
+                + "]}";
+
+        try (JsonGraphReader reader = new JsonGraphReader(new java.io.StringReader(json))) {
+            MSTSolver.GraphData first = reader.nextGraph();
+            assertEquals(1, first.id);
+            assertEquals(Arrays.asList("A", "B", "C"), first.nodes);
+            assertEquals(2, first.edges.size());
+            assertEquals("B", first.edges.get(1).from);
+            assertEquals(-2.5, first.edges.get(1).weight, 0.0);
+
+            MSTSolver.GraphData second = reader.nextGraph();
+            assertEquals(2, second.id);
+            assertTrue(second.nodes.isEmpty());
+
+            assertEquals(null, reader.nextGraph());
+        }
+
+        String badEscape = "{\"graphs\": [{\"id\": 1, \"nodes\": [\"\\u00g1\"], \"edges\": []}]}";
+        try (JsonGraphReader reader = new JsonGraphReader(new java.io.StringReader(badEscape))) {
+            assertThrows(java.io.IOException.class, reader::nextGraph);
+        }
+        System.out.println("✓ Test passed: Streaming JSON reader");
+    }
+
+    @Test
+    public void testBinaryGraphFileRoundTrip() throws Exception {
+        List<String> nodes = Arrays.asList("A", "B", "Ç", "D");
+        Graph graph = new Graph(nodes);
+        graph.addEdge(new Edge("A", "B", 1));
+        graph.addEdge(new Edge("A", "Ç", 4));
+        graph.addEdge(new Edge("B", "Ç", 2.5));
+        graph.addEdge(new Edge("Ç", "D", 3));
+
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("graph", BinaryGraphFile.EXTENSION);
+        try {
+            BinaryGraphFile.write(new CSRGraph(graph), 7, file);
+            BinaryGraphFile.MappedGraph mapped = BinaryGraphFile.open(file);
+
+            assertEquals(7, mapped.id());
+            assertEquals(graph.V(), mapped.V());
+            assertEquals(graph.E(), mapped.E());
+            assertEquals("Ç", mapped.getNodeName(2));
+            assertEquals(new KruskalMST(graph).weight(), new PrimMST(mapped).weight(), 0.01);
+            assertEquals(new KruskalMST(graph).weight(), new KruskalMST(mapped).weight(), 0.01);
+        } finally {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+
+        // Point sets have no edges to store, so converting one is an error rather than an empty graph
+        java.nio.file.Path dir = java.nio.file.Files.createTempDirectory("binary");
+        try {
+            String json = "{\"graphs\": [{\"id\": 3, \"points\": [[0, 0], [3, 4], [6, 0]]}]}";
+            java.io.InputStream in = new java.io.ByteArrayInputStream(json.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            assertThrows(java.io.IOException.class, () -> BinaryGraphFile.convert(in, dir));
+            try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.list(dir)) {
+                assertEquals(0, files.count());
+            }
+        } finally {
+            java.nio.file.Files.deleteIfExists(dir);
+        }
+        System.out.println("✓ Test passed: Binary graph file round trip");
+    }
+
+    @Test
+    public void testConcurrentBatchKeepsInputOrder() throws Exception {
+        java.nio.file.Path sequential = java.nio.file.Files.createTempFile("sequential", ".json");
+        java.nio.file.Path concurrent = java.nio.file.Files.createTempFile("concurrent", ".json");
+        try {
+            MSTSolver.SolverOptions options = new MSTSolver.SolverOptions();
+            MSTSolver.processGraphs("Input.json", sequential.toString(), options);
+            options.threads = 4;
+            MSTSolver.processGraphs("Input.json", concurrent.toString(), options);
+
+            assertEquals(withoutTimings(sequential), withoutTimings(concurrent),
+                    "Concurrent batch should write the same results in the same order");
+        } finally {
+            java.nio.file.Files.deleteIfExists(sequential);
+            java.nio.file.Files.deleteIfExists(concurrent);
+        }
+        System.out.println("✓ Test passed: Concurrent batch keeps input order");
+    }
+
+    @Test
+    public void testNdjsonWritesOneResultPerLine() throws Exception {
+        java.nio.file.Path pretty = java.nio.file.Files.createTempFile("pretty", ".json");
+        java.nio.file.Path ndjson = java.nio.file.Files.createTempFile("results", ".ndjson");
+        try {
+            MSTSolver.SolverOptions options = new MSTSolver.SolverOptions();
+            MSTSolver.processGraphs("Input.json", pretty.toString(), options);
+            options.ndjson = true;
+            MSTSolver.processGraphs("Input.json", ndjson.toString(), options);
+
+            long results = java.nio.file.Files.readAllLines(pretty).stream()
+                    .filter(line -> line.contains("\"graph_id\"")).count();
+            List<String> lines = java.nio.file.Files.readAllLines(ndjson);
+            assertEquals(results, lines.size(), "NDJSON should have one line per graph");
+            for (int i = 0; i < lines.size(); i++) {
+                assertTrue(lines.get(i).startsWith("{\"graph_id\": "), "Each line should be a result object");
+                assertTrue(lines.get(i).endsWith("}"), "Each line should be a complete object");
+            }
+        } finally {
+            java.nio.file.Files.deleteIfExists(pretty);
+            java.nio.file.Files.deleteIfExists(ndjson);
+        }
+        System.out.println("✓ Test passed: NDJSON writes one result per line");
+    }
+
+    @Test
+    public void testGraphGeneratorModels() {
+        // Same seed, same graph
+        EdgeList a = new GraphGenerator(7).toEdgeList(GraphGenerator.Model.ERDOS_RENYI, 2000, 0.005);
+        EdgeList b = new GraphGenerator(7).toEdgeList(GraphGenerator.Model.ERDOS_RENYI, 2000, 0.005);
+        assertEquals(a.size(), b.size());
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.from(i), b.from(i));
+            assertEquals(a.to(i), b.to(i));
+            assertEquals(a.weight(i), b.weight(i));
+        }
+        // About p * V(V-1)/2 = 9995 edges, all simple and unique
+        assertTrue(a.size() > 9000 && a.size() < 11000, "ER edge count should be near its expectation");
+        Set<Long> pairs = new HashSet<>();
+        for (int i = 0; i < a.size(); i++) {
+            assertTrue(a.from(i) < a.to(i), "ER edges should be simple");
+            assertTrue(pairs.add((long) a.from(i) * 2000 + a.to(i)), "ER edges should be unique");
+        }
+
+        assertEquals(2 * 30 * 29, new GraphGenerator(1).toEdgeList(GraphGenerator.Model.GRID, 900, 0).size());
+        assertEquals(10 + 4 * 995, new GraphGenerator(1).toEdgeList(GraphGenerator.Model.BARABASI_ALBERT, 1000, 4).size());
+        assertEquals(50 * 49 / 2, new GraphGenerator(1).toEdgeList(GraphGenerator.Model.COMPLETE, 50, 0).size());
+
+        Graph sparse = new GraphGenerator(3, true).toGraph(GraphGenerator.Model.GEOMETRIC, 1000, 0.01);
+        assertTrue(sparse.isConnected(), "Backbone should connect a sub-critical geometric graph");
+        assertEquals(new KruskalMST(sparse).weight(), new PrimMST(sparse).weight(), 0.01);
+        assertFalse(new GraphGenerator(3).toGraph(GraphGenerator.Model.GEOMETRIC, 1000, 0.01).isConnected());
+
+        System.out.println("✓ Test passed: Graph generator models");
+    }
+
+    @Test
+    public void testGeneratedJsonIsSolverInput() throws Exception {
+        java.io.File file = java.io.File.createTempFile("generated", ".json");
+        try {
+            GraphGenerator.writeJson(GraphGenerator.Model.BARABASI_ALBERT, 300, 3, 2, 11, false, file);
+            GraphGenerator generator = new GraphGenerator(11);
+            try (JsonGraphReader reader = new JsonGraphReader(new java.io.FileInputStream(file))) {
+                for (int id = 1; id <= 2; id++) {
+                    MSTSolver.GraphData data = reader.nextGraph();
+                    assertEquals(id, data.id);
+                    assertEquals(300, data.nodes.size());
+                    Graph expected = generator.toGraph(GraphGenerator.Model.BARABASI_ALBERT, 300, 3);
+                    assertEquals(expected.E(), data.edges.size());
+                    assertEquals(new KruskalMST(expected).weight(), new KruskalMST(MSTSolver.buildGraph(data)).weight(), 0.01);
+                }
+                assertNull(reader.nextGraph());
+            }
+        } finally {
+            file.delete();
+        }
+        System.out.println("✓ Test passed: Generated JSON is solver input");
+    }
+
+    @Test
+    public void testEveryAlgorithmAgrees() {
+        Graph graph = new GraphGenerator(5, true).toGraph(GraphGenerator.Model.ERDOS_RENYI, 400, 0.02);
+        CSRGraph csr = new CSRGraph(graph);
+        double expected = new KruskalMST(graph).weight();
+        for (MSTAlgorithm algorithm : MSTAlgorithm.values()) {
+            MinimumSpanningTree fromGraph = algorithm.compute(graph);
+            MinimumSpanningTree fromCSR = algorithm.compute(csr);
+            assertEquals(expected, fromGraph.weight(), 0.01, algorithm + " on Graph");
+            assertEquals(expected, fromCSR.weight(), 0.01, algorithm + " on CSRGraph");
+            assertTrue(fromCSR.check(graph), algorithm + " should produce a valid tree");
+            assertEquals(algorithm, MSTAlgorithm.parse(algorithm.label()));
+        }
+        System.out.println("✓ Test passed: Every algorithm agrees");
+    }
+
+    @Test
+    public void testSelectorAndCrossCheck() throws Exception {
+        assertEquals(MSTAlgorithm.DENSE_PRIM,
+                MSTSelector.select(new GraphGenerator(1).toGraph(GraphGenerator.Model.COMPLETE, 100, 0)));
+        assertEquals(MSTAlgorithm.KRUSKAL,
+                MSTSelector.select(new GraphGenerator(1).toGraph(GraphGenerator.Model.GRID, 2500, 0)));
+        assertEquals(MSTAlgorithm.EAGER_PRIM, MSTSelector.select(100_000, 5_000_000, true));
+        assertEquals(MSTAlgorithm.EAGER_PRIM, MSTSelector.select(100_000, 2_000_000, false));
+        assertEquals(MSTAlgorithm.KRUSKAL, MSTSelector.select(100_000, 2_000_000, true));
+
+        java.nio.file.Path output = java.nio.file.Files.createTempFile("auto", ".json");
+        try {
+            MSTSolver.SolverOptions options = new MSTSolver.SolverOptions();
+            options.auto = true;
+            options.crossCheck = true;
+            MSTSolver.processGraphs("Input.json", output.toString(), options);
+            String json = new String(java.nio.file.Files.readAllBytes(output), java.nio.charset.StandardCharsets.UTF_8);
+            assertFalse(json.contains("\"prim\""), "Only one MST should be written per graph");
+            assertTrue(json.contains("\"algorithm\""));
+            assertFalse(json.contains("\"costs_match\": false"), "Cross-check should agree");
+        } finally {
+            java.nio.file.Files.deleteIfExists(output);
+        }
+        System.out.println("✓ Test passed: Selector and cross-check");
+    }
+
+    @Test
+    public void testDynamicMSTInsertions() {
+        Graph graph = new GraphGenerator(2).toGraph(GraphGenerator.Model.ERDOS_RENYI, 300, 0.004);
+        DynamicMST dynamic = new DynamicMST(graph);
+        assertFalse(dynamic.isConnected(), "Sparse start should be a forest");
+
+        Random random = new Random(17);
+        for (int k = 0; k < 3000; k++) {
+            String v = GraphGenerator.nodeName(random.nextInt(300));
+            String w = GraphGenerator.nodeName(random.nextInt(300));
+            dynamic.addEdge(new Edge(v, w, 1 + random.nextInt(1000)));
+        }
+
+        assertTrue(dynamic.isConnected(), "3000 random edges should connect 300 vertices");
+        assertEquals(299, dynamic.edges().size());
+        assertTrue(isAcyclic(graph, dynamic.edges()), "Dynamic MST should be acyclic");
+        assertEquals(new KruskalMST(graph).weight(), dynamic.weight(), 0.01);
+        System.out.println("✓ Test passed: Dynamic MST insertions");
+    }
+
+    @Test
+    public void testDynamicMSTDeletionsAndWeightChanges() {
+        Graph graph = new GraphGenerator(4, true).toGraph(GraphGenerator.Model.ERDOS_RENYI, 200, 0.08);
+        List<Edge> live = new ArrayList<>();
+        for (Edge e : graph.edges()) {
+            live.add(e);
+        }
+        DynamicMST dynamic = new DynamicMST(graph);
+
+        Random random = new Random(23);
+        for (int k = 0; k < 500; k++) {
+            int i = random.nextInt(live.size());
+            if (k % 2 == 0) {
+                dynamic.removeEdge(live.get(i));
+                live.set(i, live.get(live.size() - 1));
+                live.remove(live.size() - 1);
+            } else {
+                live.set(i, dynamic.updateWeight(live.get(i), 1 + random.nextInt(1000)));
+            }
+        }
+        assertEquals(live.size(), graph.E());
+        assertEquals(graph.isConnected(), dynamic.isConnected());
+
+        // Removing every tree edge incident to one vertex isolates it unless a replacement exists
+        String v = GraphGenerator.nodeName(0);
+        List<Edge> incident = new ArrayList<>();
+        for (Edge e : graph.adj(v)) {
+            incident.add(e);
+        }
+        for (Edge e : incident) {
+            dynamic.removeEdge(e);
+        }
+        assertFalse(dynamic.isConnected(), "A vertex without edges should be its own component");
+
+        // Kruskal needs a connected graph, so reconnect the isolated vertex before comparing
+        dynamic.addEdge(new Edge(v, GraphGenerator.nodeName(1), 5000));
+        assertTrue(dynamic.isConnected(), "The new edge should reconnect the vertex");
+        assertEquals(new KruskalMST(graph).weight(), dynamic.weight(), 0.01);
+        assertTrue(isAcyclic(graph, dynamic.edges()), "Dynamic MST should stay acyclic");
+        System.out.println("✓ Test passed: Dynamic MST deletions and weight changes");
+    }
+
+    @Test
+    public void testSpanningForestOfDisconnectedGraph() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D", "E", "F");
+        Graph graph = new Graph(nodes);
+        graph.addEdge(new Edge("A", "B", 3));
+        graph.addEdge(new Edge("B", "C", 1));
+        graph.addEdge(new Edge("A", "C", 2));
+        graph.addEdge(new Edge("D", "E", 7));
+
+        MinimumSpanningForest forest = new MinimumSpanningForest(graph);
+        assertFalse(forest.isConnected());
+        assertEquals(3, forest.componentCount());
+        assertEquals(10.0, forest.weight(), 0.01);
+        assertEquals(3, forest.edges().size());
+        assertTrue(forest.check(graph), "Forest should be valid");
+
+        int abc = forest.component(graph.getNodeIndex("A"));
+        assertEquals(abc, forest.component(graph.getNodeIndex("C")));
+        assertEquals(3, forest.componentSize(abc));
+        assertEquals(3.0, forest.componentWeight(abc), 0.01);
+        assertEquals(2, forest.componentEdges(abc).size());
+        int f = forest.component(graph.getNodeIndex("F"));
+        assertEquals(1, forest.componentSize(f));
+        assertEquals(0, forest.componentEdges(f).size());
+
+        // On a connected graph the forest is the MST
+        Graph connected = new GraphGenerator(8, true).toGraph(GraphGenerator.Model.GEOMETRIC, 500, 0.05);
+        assertEquals(new KruskalMST(connected).weight(), new MinimumSpanningForest(connected).weight(), 0.01);
+        System.out.println("✓ Test passed: Spanning forest of disconnected graph");
+    }
+
+    @Test
+    public void testEnginesDeriveConnectivity() {
+        List<String> nodes = Arrays.asList("A", "B", "C", "D");
+        Graph graph = new Graph(nodes);
+        graph.addEdge(new Edge("A", "B", 1));
+        graph.addEdge(new Edge("C", "D", 2));
+
+        for (MSTAlgorithm algorithm : MSTAlgorithm.values()) {
+            MinimumSpanningTree mst = algorithm.compute(graph);
+            assertFalse(mst.isConnected(), algorithm + " should detect the disconnected graph");
+            if (algorithm != MSTAlgorithm.FOREST) {
+                assertTrue(mst.edges().isEmpty(), algorithm + " should not return a partial tree");
+                assertEquals(0.0, mst.weight(), 0.0);
+            }
+        }
+
+        // The cached connectivity follows edge updates
+        assertFalse(graph.isConnected());
+        Edge bridge = new Edge("B", "C", 3);
+        graph.addEdge(bridge);
+        assertTrue(graph.isConnected());
+        graph.removeEdge(bridge);
+        assertFalse(graph.isConnected());
+        System.out.println("✓ Test passed: Engines derive connectivity");
+    }
+
+    @Test
+    public void testEdgeViewAndPrimitiveIteration() {
+        Graph graph = new GraphGenerator(11).toGraph(GraphGenerator.Model.ERDOS_RENYI, 300, 0.05);
+        Edge loop = new Edge("V0", "V0", 1);
+        graph.addEdge(loop);
+
+        // The view is live and lists every edge once, self-loops excluded
+        List<Edge> edges = graph.edges();
+        assertEquals(graph.E() - 1, edges.size());
+        Edge first = edges.get(0);
+        graph.removeEdge(first);
+        assertEquals(graph.E() - 1, edges.size());
+        assertFalse(edges.contains(first));
+        int E = graph.E();
+        assertThrows(IllegalArgumentException.class, () -> graph.removeEdge(first));
+        assertEquals(E, graph.E());
+        // An instance added twice has a single position, so only one removal can find it
+        Edge twice = new Edge("V1", "V2", 5);
+        graph.addEdge(twice);
+        graph.addEdge(twice);
+        graph.removeEdge(twice);
+        assertThrows(IllegalArgumentException.class, () -> graph.removeEdge(twice));
+        assertEquals(E + 1, graph.E());
+        Spliterator<Edge> split = edges.spliterator();
+        assertTrue(split.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertFalse(split.hasCharacteristics(Spliterator.IMMUTABLE));
+
+        double[] total = new double[1];
+        int[] count = new int[1];
+        graph.forEachEdge((v, w, weight) -> {
+            assertTrue(v != w);
+            total[0] += weight;
+            count[0]++;
+        });
+        double streamed = graph.edgeStream().parallel().mapToDouble(Edge::weight).sum();
+        assertEquals(edges.size(), count[0]);
+        assertEquals(total[0], streamed, 1e-6);
+        assertEquals(edges.size(), graph.edgeStream().parallel().count());
+        System.out.println("✓ Test passed: Edge view and primitive iteration");
+    }
+
+    @Test
+    public void testBulkCSRConstruction() {
+        // Large enough for the parallel fill; the layout must match Graph-based construction
+        Graph graph = new GraphGenerator(5).toGraph(GraphGenerator.Model.ERDOS_RENYI, 2000, 0.04);
+        MSTSolver.GraphData data = new MSTSolver.GraphData();
+        data.nodes = GraphGenerator.nodeNames(graph.V());
+        for (Edge e : graph.edges()) {
+            MSTSolver.EdgeData edgeData = new MSTSolver.EdgeData();
+            edgeData.from = e.either();
+            edgeData.to = e.other(e.either());
+            edgeData.weight = e.weight();
+            data.edges.add(edgeData);
+        }
+        MSTSolver.EdgeData loop = new MSTSolver.EdgeData();
+        loop.from = "V3";
+        loop.to = "V3";
+        loop.weight = 1;
+        data.edges.add(loop);
+        assertTrue(graph.E() >= CSRGraph.PARALLEL_THRESHOLD);
+
+        CSRGraph expected = new CSRGraph(graph);
+        CSRGraph bulk = MSTSolver.buildCSRGraph(data);
+        assertEquals(expected.V(), bulk.V());
+        assertEquals(expected.E(), bulk.E());
+        for (int v = 0; v <= bulk.V(); v++) {
+            assertEquals(expected.offset(v), bulk.offset(v));
+        }
+        for (int i = 0; i < 2 * bulk.E(); i++) {
+            assertEquals(expected.target(i), bulk.target(i));
+            assertEquals(expected.weight(i), bulk.weight(i), 0.0);
+        }
+
+        MSTSolver.EdgeData unknown = new MSTSolver.EdgeData();
+        unknown.from = "V0";
+        unknown.to = "X";
+        data.edges.add(unknown);
+        assertThrows(IllegalArgumentException.class, () -> MSTSolver.buildCSRGraph(data));
+        System.out.println("✓ Test passed: Bulk CSR construction");
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++) {
+            histogram.record(v * 1000);
+        }
+        assertEquals(1000, histogram.count());
+        assertEquals(1000, histogram.min());
+        assertEquals(1_000_000, histogram.max());
+        assertEquals(500_500.0, histogram.mean(), 1e-9);
+        // Log-linear buckets keep percentiles within about 3% of the exact value
+        assertEquals(500_000, histogram.percentile(50), 500_000 * 0.04);
+        assertEquals(990_000, histogram.percentile(99), 990_000 * 0.04);
+        assertEquals(1_000_000, histogram.percentile(100));
+
+        for (long v : new long[]{0, 31, 32, 33, 1000, Long.MAX_VALUE}) {
+            assertTrue(LatencyHistogram.highestValueIn(LatencyHistogram.bucketOf(v)) >= v);
+        }
+        System.out.println("✓ Test passed: Latency histogram");
+    }
+
+    @Test
+    public void testSolverMetricsExport() throws Exception {
+        java.io.File input = java.io.File.createTempFile("metrics", ".json");
+        java.io.File output = java.io.File.createTempFile("metrics-out", ".json");
+        java.io.File metrics = SolverMetrics.fileFor(output.getPath());
+        try {
+            GraphGenerator.writeJson(GraphGenerator.Model.ERDOS_RENYI, 200, 0.05, 3, 7, false, input);
+            MSTSolver.SolverOptions options = new MSTSolver.SolverOptions();
+            options.metrics = true;
+            MSTSolver.processGraphs(input.getPath(), output.getPath(), options);
+
+            assertTrue(metrics.getName().endsWith(".metrics.json"));
+            String json = new String(java.nio.file.Files.readAllBytes(metrics.toPath()));
+            assertTrue(json.contains("\"graphs\": 3"));
+            for (SolverMetrics.Phase phase : SolverMetrics.Phase.values()) {
+                assertTrue(json.contains("\"" + phase.label() + "\": {\"count\": "), phase.label());
+            }
+            assertTrue(json.contains("\"sort\": {\"count\": 3"));
+            assertTrue(json.contains("\"heap\": {\"count\": 3"));
+        } finally {
+            input.delete();
+            output.delete();
+            metrics.delete();
+        }
+
+        // Operation counts are long and engines report the phases they have
+        KruskalMST kruskal = new KruskalMST(new GraphGenerator(3).toGraph(GraphGenerator.Model.GRID, 400, 0));
+        assertTrue(kruskal.phaseTime(SolverMetrics.Phase.SORT) > 0);
+        assertEquals(0, kruskal.phaseTime(SolverMetrics.Phase.HEAP));
+        long ops = kruskal.operationsCount();
+        assertTrue(ops > 0);
+        System.out.println("✓ Test passed: Solver metrics export");
+    }
+
+    @Test
+    public void testExternalKruskalMatchesKruskal() throws Exception {
+        java.nio.file.Path dir = java.nio.file.Files.createTempDirectory("external");
+        java.nio.file.Path file = dir.resolve("graph" + EdgeFileWriter.EXTENSION);
+        try {
+            long edges = GraphGenerator.writeEdgeFile(GraphGenerator.Model.GEOMETRIC, 3000, 0.05, 9, true, file);
+            Graph graph = new GraphGenerator(9, true).toGraph(GraphGenerator.Model.GEOMETRIC, 3000, 0.05);
+            assertEquals(graph.E(), edges);
+            double expected = new KruskalMST(graph).weight();
+
+            // One in-memory run, several merged runs, and more runs than one merge can take
+            for (int runEdges : new int[]{(int) edges, 4096, 64}) {
+                ExternalKruskalMST mst = new ExternalKruskalMST(GraphGenerator.nodeNames(3000), file, dir, runEdges);
+                assertEquals(expected, mst.weight(), 0.01, "run size " + runEdges);
+                assertTrue(mst.isConnected());
+                assertTrue(mst.check(graph));
+                assertEquals((edges + runEdges - 1) / runEdges, mst.runCount());
+            }
+            assertTrue(edges / 64 > ExternalKruskalMST.MAX_FAN_IN);
+            try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.list(dir)) {
+                assertEquals(1, files.count(), "runs must be deleted");
+            }
+
+            GraphGenerator.writeEdgeFile(GraphGenerator.Model.ERDOS_RENYI, 500, 0.001, 9, false, file);
+            ExternalKruskalMST disconnected = new ExternalKruskalMST(GraphGenerator.nodeNames(500), file, dir, 100);
+            assertFalse(disconnected.isConnected());
+            assertTrue(disconnected.edges().isEmpty());
+        } finally {
+            java.nio.file.Files.deleteIfExists(file);
+            java.nio.file.Files.deleteIfExists(dir);
+        }
+        System.out.println("✓ Test passed: External Kruskal matches Kruskal");
+    }
+
+    @Test
+    public void testEuclideanMSTMatchesCompleteGraph() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (int dimension = 2; dimension <= 3; dimension++) {
+            int n = 300;
+            double[] points = new double[n * dimension];
+            for (int i = 0; i < points.length; i++) {
+                // A coarse lattice gives plenty of equal distances and duplicate points
+                points[i] = i < points.length / 2 ? random.nextInt(20) : random.nextDouble() * 20;
+            }
+            List<String> nodes = GraphGenerator.nodeNames(n);
+            Graph complete = new Graph(nodes);
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    complete.addEdge(new Edge(nodes.get(i), nodes.get(j), EuclideanMST.distance(points, dimension, i, j)));
+                }
+            }
+
+            EuclideanMST mst = new EuclideanMST(nodes, points, dimension);
+            assertEquals(new KruskalMST(complete).weight(), mst.weight(), 1e-6, dimension + "D");
+            assertEquals(n - 1, mst.edges().size());
+            assertTrue(mst.check(complete));
+            assertTrue(mst.isConnected());
+        }
+        System.out.println("✓ Test passed: Euclidean MST matches the complete graph");
+    }
+
+    @Test
+    public void testSolverPointInput() throws Exception {
+        java.io.File input = java.io.File.createTempFile("points", ".json");
+        java.io.File output = java.io.File.createTempFile("points-out", ".json");
+        try {
+            java.nio.file.Files.write(input.toPath(), ("{\"graphs\": ["
+                    + "{\"id\": 1, \"nodes\": [\"A\", \"B\", \"C\", \"D\"],"
+                    + " \"points\": [[0, 0], [3, 4], [3, 0], [10, 0.5]]},"
+                    + "{\"id\": 2, \"points\": [[0, 0, 0], [0, 0, 2], [1, 0, 0]]}"
+                    + "]}").getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            try (JsonGraphReader reader = new JsonGraphReader(new java.io.FileInputStream(input))) {
+                MSTSolver.GraphData first = reader.nextGraph();
+                assertEquals(2, first.dimension);
+                assertEquals(8, first.points.length);
+                assertEquals(3, reader.nextGraph().dimension);
+            }
+
+            MSTSolver.SolverOptions options = new MSTSolver.SolverOptions();
+            options.crossCheck = true;
+            MSTSolver.processGraphs(input.getPath(), output.getPath(), options);
+            String json = new String(java.nio.file.Files.readAllBytes(output.toPath()),
+                    java.nio.charset.StandardCharsets.UTF_8);
+            assertTrue(json.contains("\"algorithm\": \"euclidean\""));
+            assertTrue(json.contains("\"from\": \"A\", \"to\": \"C\", \"weight\": 3.0")
+                    || json.contains("\"from\": \"C\", \"to\": \"A\", \"weight\": 3.0"));
+            assertTrue(json.contains("\"costs_match\": true"));
+            assertFalse(json.contains("\"costs_match\": false"));
+        } finally {
+            input.delete();
+            output.delete();
+        }
+        System.out.println("✓ Test passed: Solver point input");
+    }
+
+    @Test
+    public void testResultCache() throws Exception {
+        MSTSolver.GraphData graph = graphData(new String[]{"A", "B", "C"},
+                new String[][]{{"A", "B"}, {"B", "C"}, {"A", "C"}}, new double[]{1, 2, 3});
+        MSTSolver.GraphData reordered = graphData(new String[]{"A", "B", "C"},
+                new String[][]{{"C", "A"}, {"A", "B"}, {"C", "B"}}, new double[]{3, 1, 2});
+        MSTSolver.GraphData reweighted = graphData(new String[]{"A", "B", "C"},
+                new String[][]{{"A", "B"}, {"B", "C"}, {"A", "C"}}, new double[]{1, 2, 4});
+        MSTSolver.GraphData renumbered = graphData(new String[]{"B", "A", "C"},
+                new String[][]{{"A", "B"}, {"B", "C"}, {"A", "C"}}, new double[]{1, 2, 3});
+        String key = ResultCache.key(graph, "kruskal");
+        assertEquals(key, ResultCache.key(reordered, "kruskal"));
+        assertNotEquals(key, ResultCache.key(reweighted, "kruskal"));
+        assertNotEquals(key, ResultCache.key(renumbered, "kruskal"));
+        assertNotEquals(key, ResultCache.key(graph, "prim"));
+
+        java.nio.file.Path dir = java.nio.file.Files.createTempDirectory("mst-cache");
+        java.nio.file.Path tiered = java.nio.file.Files.createTempDirectory("mst-cache-tiers");
+        java.io.File input = java.io.File.createTempFile("cache", ".json");
+        java.io.File first = java.io.File.createTempFile("cache-first", ".json");
+        java.io.File second = java.io.File.createTempFile("cache-second", ".json");
+        try {
+            java.nio.file.Files.write(input.toPath(), ("{\"graphs\": ["
+                    + "{\"id\": 1, \"nodes\": [\"A\", \"B\", \"C\"], \"edges\": ["
+                    + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}, {\"from\": \"B\", \"to\": \"C\", \"weight\": 2},"
+                    + " {\"from\": \"A\", \"to\": \"C\", \"weight\": 3}]},"
+                    + "{\"id\": 2, \"nodes\": [\"A\", \"B\", \"C\", \"D\"], \"edges\": ["
+                    + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}, {\"from\": \"C\", \"to\": \"D\", \"weight\": 5}]}"
+                    + "]}").getBytes(java.nio.charset.StandardCharsets.UTF_8));
+
+            MSTSolver.SolverOptions options = new MSTSolver.SolverOptions();
+            options.cache = new ResultCache(dir);
+            MSTSolver.processGraphs(input.getPath(), first.getPath(), options);
+            assertEquals(2, options.cache.diskEntries());
+
+            // A fresh cache only has the disk tier to go on
+            options.cache = new ResultCache(dir);
+            assertEquals(0, options.cache.memorySize());
+            MSTSolver.processGraphs(input.getPath(), second.getPath(), options);
+            assertEquals(2, options.cache.memorySize());
+            assertEquals(new String(java.nio.file.Files.readAllBytes(first.toPath()), java.nio.charset.StandardCharsets.UTF_8),
+                    new String(java.nio.file.Files.readAllBytes(second.toPath()), java.nio.charset.StandardCharsets.UTF_8));
+
+            // Least recently used files go first once the directory is over its budget
+            String connected = ResultCache.key(graph, "prim+kruskal");
+            ResultCache small = new ResultCache(dir, options.cache.diskBytes(), 0);
+            assertNull(small.get(key, 7));
+            MSTSolver.ResultData solved = small.get(connected, 7);
+            assertNotNull(solved);
+            assertEquals(7, solved.graphId);
+            assertEquals(3.0, solved.kruskalCost, 1e-9);
+            MSTSolver.GraphData other = graphData(new String[]{"X", "Y"}, new String[][]{{"X", "Y"}}, new double[]{1});
+            small.put(ResultCache.key(other, "prim+kruskal"), solved);
+            assertEquals(2, small.diskEntries());
+            assertNotNull(small.get(connected, 1));
+            assertNotNull(small.get(ResultCache.key(other, "prim+kruskal"), 1));
+
+            // The memory tier is capped by estimated bytes, least recently used out first
+            long bytes = ResultCache.estimateBytes(solved);
+            ResultCache memoryOnly = new ResultCache(bytes + bytes / 2);
+            memoryOnly.put("a", solved);
+            memoryOnly.put("b", solved);
+            assertEquals(1, memoryOnly.memorySize());
+            assertEquals(bytes, memoryOnly.memoryBytes());
+            assertNull(memoryOnly.get("a", 1));
+            assertNotNull(memoryOnly.get("b", 1));
+            ResultCache tooSmall = new ResultCache(bytes - 1);
+            tooSmall.put("c", solved);
+            assertEquals(0, tooSmall.memorySize());
+
+            // Hits from memory keep a result recent on disk as well
+            ResultCache probe = new ResultCache(tiered, Long.MAX_VALUE, 0);
+            probe.put("a", solved);
+            ResultCache tiers = new ResultCache(tiered, 2 * probe.diskBytes(), ResultCache.DEFAULT_MEMORY_BYTES);
+            tiers.put("b", solved);
+            assertNotNull(tiers.get("a", 1));
+            assertNotNull(tiers.get("b", 1));
+            assertEquals(2, tiers.memorySize());
+            tiers.put("c", solved);
+            assertEquals(2, tiers.diskEntries());
+            assertFalse(java.nio.file.Files.exists(tiered.resolve("a" + ResultCache.EXTENSION)));
+            assertTrue(java.nio.file.Files.exists(tiered.resolve("b" + ResultCache.EXTENSION)));
+        } finally {
+            for (java.nio.file.Path d : new java.nio.file.Path[]{dir, tiered}) {
+                try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.list(d)) {
+                    files.forEach(f -> f.toFile().delete());
+                }
+                d.toFile().delete();
+            }
+            input.delete();
+            first.delete();
+            second.delete();
+        }
+        System.out.println("✓ Test passed: Result cache");
+    }
+
+    @Test
+    public void testOffHeapCSRGraph() throws Exception {
+        CSRGraph heap = new CSRGraph(new GraphGenerator(5, true).toGraph(GraphGenerator.Model.ERDOS_RENYI, 400, 0.05));
+        try (OffHeapCSRGraph graph = OffHeapCSRGraph.copyOf(heap)) {
+            assertEquals(heap.V(), graph.V());
+            assertEquals(heap.E(), graph.E());
+            for (int v = 0; v < heap.V(); v++) {
+                assertEquals(heap.getNodeName(v), graph.getNodeName(v));
+                assertEquals(heap.degree(v), graph.degree(v));
+            }
+            // Targets and weights for both directions, offsets, then the names
+            assertTrue(graph.byteSize() > 24L * heap.E() + 4L * (heap.V() + 1));
+            for (MSTAlgorithm algorithm : MSTAlgorithm.values()) {
+                assertEquals(algorithm.compute(heap).weight(), algorithm.compute(graph).weight(), 0.01,
+                        algorithm.label());
+            }
+            assertTrue(graph.isConnected());
+        }
+
+        OffHeapCSRGraph closed = OffHeapCSRGraph.copyOf(heap);
+        assertTrue(closed.isOpen());
+        closed.close();
+        assertFalse(closed.isOpen());
+        assertThrows(IllegalStateException.class, () -> closed.target(0));
+        closed.close();
+
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("offheap", EdgeFileWriter.EXTENSION);
+        try {
+            long edges = GraphGenerator.writeEdgeFile(GraphGenerator.Model.GEOMETRIC, 2000, 0.05, 9, true, file);
+            Graph graph = new GraphGenerator(9, true).toGraph(GraphGenerator.Model.GEOMETRIC, 2000, 0.05);
+            try (OffHeapCSRGraph loaded = OffHeapCSRGraph.load(GraphGenerator.nodeNames(2000), file)) {
+                assertEquals(edges, loaded.E());
+                KruskalMST mst = new KruskalMST(loaded);
+                assertEquals(new KruskalMST(graph).weight(), mst.weight(), 0.01);
+                assertTrue(mst.check(graph));
+            }
+        } finally {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+
+        MSTSolver.GraphData bad = graphData(new String[]{"A", "B"}, new String[][]{{"A", "C"}}, new double[]{1});
+        assertThrows(IllegalArgumentException.class, () -> OffHeapCSRGraph.of(bad));
+        try (OffHeapCSRGraph empty = OffHeapCSRGraph.of(graphData(new String[]{"A"}, new String[0][], new double[0]))) {
+            assertEquals(0, empty.E());
+            assertEquals(0.0, new PrimMST(empty).weight(), 1e-9);
+        }
+        System.out.println("✓ Test passed: Off-heap CSR graph");
+    }
+
+    @Test
+    public void testSolverOffHeapMatchesHeap() throws Exception {
+        java.io.File heap = java.io.File.createTempFile("heap-out", ".json");
+        java.io.File offHeap = java.io.File.createTempFile("offheap-out", ".json");
+        try {
+            MSTSolver.SolverOptions options = new MSTSolver.SolverOptions();
+            MSTSolver.processGraphs("Input.json", heap.getPath(), options);
+            options.offHeap = true;
+            MSTSolver.processGraphs("Input.json", offHeap.getPath(), options);
+            options.algorithm = MSTAlgorithm.BORUVKA;
+            options.crossCheck = true;
+            MSTSolver.processGraphs("Input.json", offHeap.getPath() + ".single", options);
+            assertEquals(withoutTimings(heap.toPath()), withoutTimings(offHeap.toPath()));
+            assertFalse(withoutTimings(java.nio.file.Paths.get(offHeap.getPath() + ".single")).stream()
+                    .anyMatch(line -> line.contains("\"costs_match\": false")));
+        } finally {
+            heap.delete();
+            offHeap.delete();
+            new java.io.File(offHeap.getPath() + ".single").delete();
+        }
+        System.out.println("✓ Test passed: Solver off-heap matches heap");
+    }
+
+    @Test
+    public void testEnginesKeepForest() {
+        CSRGraph graph = new CSRGraph(new GraphGenerator(11).toGraph(GraphGenerator.Model.ERDOS_RENYI, 2000, 0.0008));
+        assertFalse(graph.isConnected());
+        MinimumSpanningForest expected = new MinimumSpanningForest(graph);
+        for (MinimumSpanningTree mst : new MinimumSpanningTree[]{new KruskalMST(graph),
+                new FilterKruskalMST(graph), new BoruvkaMST(graph)}) {
+            assertFalse(mst.isConnected());
+            assertTrue(mst.edges().isEmpty());
+            MinimumSpanningForest forest = mst.forest();
+            assertNotNull(forest);
+            assertEquals(expected.componentCount(), forest.componentCount());
+            assertEquals(expected.weight(), forest.weight(), 1e-6);
+            for (int v = 0; v < graph.V(); v++) {
+                assertEquals(expected.component(v), forest.component(v));
+            }
+            for (int c = 0; c < forest.componentCount(); c++) {
+                assertEquals(expected.componentWeight(c), forest.componentWeight(c), 1e-6);
+                assertEquals(forest.componentSize(c) - 1, forest.componentEdges(c).size());
+            }
+        }
+        // Prim only ever sees the first component
+        assertNull(new PrimMST(graph).forest());
+        assertNull(new KruskalMST(new CSRGraph(new GraphGenerator(11).toGraph(
+                GraphGenerator.Model.GRID, 100, 0))).forest());
+        System.out.println("✓ Test passed: Engines keep the forest of a disconnected graph");
+    }
+
     // Helper methods
+    private static MSTSolver.GraphData graphData(String[] nodes, String[][] edges, double[] weights) {
+        MSTSolver.GraphData data = new MSTSolver.GraphData();
+        data.nodes.addAll(Arrays.asList(nodes));
+        for (int i = 0; i < edges.length; i++) {
+            MSTSolver.EdgeData edge = new MSTSolver.EdgeData();
+            edge.from = edges[i][0];
+            edge.to = edges[i][1];
+            edge.weight = weights[i];
+            data.edges.add(edge);
+        }
+        return data;
+    }
+
     private boolean isAcyclic(Graph graph, List<Edge> edges) {
         UnionFind uf = new UnionFind(graph.V());
         for (Edge e : edges) {
@@ -227,6 +1184,14 @@ public class MSTTest {
         return true;
     }
 
+    private List<String> withoutTimings(java.nio.file.Path file) throws java.io.IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : java.nio.file.Files.readAllLines(file)) {
+            if (!line.contains("execution_time_ms")) lines.add(line);
+        }
+        return lines;
+    }
+
     private boolean connectsAllVertices(Graph graph, List<Edge> edges) {
         if (edges.size() != graph.V() - 1) {
             return false;
@@ -259,8 +1224,41 @@ public class MSTTest {
             test.testOperationCountIsNonNegative();
             test.testResultsAreReproducible();
             test.testMediumGraph();
+            test.testCSRGraphSameCost();
+            test.testCSRGraphDisconnected();
+            test.testEagerPrimArities();
+            test.testDensePrimOnCompleteGraph();
+            test.testBoruvkaMatchesKruskal();
+            test.testFilterKruskalMatchesKruskal();
+            test.testEdgeListRadixSort();
+            test.testJsonGraphReaderStreamsGraphs();
+            test.testBinaryGraphFileRoundTrip();
+            test.testConcurrentBatchKeepsInputOrder();
+            test.testNdjsonWritesOneResultPerLine();
+            test.testGraphGeneratorModels();
+            test.testGeneratedJsonIsSolverInput();
+            test.testEveryAlgorithmAgrees();
+            test.testSelectorAndCrossCheck();
+            test.testDynamicMSTInsertions();
+            test.testDynamicMSTDeletionsAndWeightChanges();
+            test.testSpanningForestOfDisconnectedGraph();
+            test.testEnginesDeriveConnectivity();
+            test.testEdgeViewAndPrimitiveIteration();
+            test.testBulkCSRConstruction();
+            test.testLatencyHistogram();
+            test.testSolverMetricsExport();
+            test.testExternalKruskalMatchesKruskal();
+            test.testEuclideanMSTMatchesCompleteGraph();
+            test.testSolverPointInput();
+            test.testResultCache();
+            test.testOffHeapCSRGraph();
+            test.testSolverOffHeapMatchesHeap();
+            test.testEnginesKeepForest();
 
             System.out.println("\n✅ All tests passed!");
+        } catch (Exception e) {
+            System.out.println("\n❌ Test failed: " + e.getMessage());
+            e.printStackTrace();
         } catch (AssertionError e) {
             System.out.println("\n❌ Test failed: " + e.getMessage());
             e.printStackTrace();